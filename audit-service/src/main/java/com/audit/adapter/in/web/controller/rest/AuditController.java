@@ -2,6 +2,7 @@ package com.audit.adapter.in.web.controller.rest;
 
 import com.audit.domain.model.ActivityLogDomain;
 import com.audit.domain.port.in.AuditUseCasePort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 import com.common.shared.domain.exception.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -52,4 +53,20 @@ public class AuditController {
         PaginatedResponse<ActivityLogDomain> response = auditUseCasePort.retrieveLogs(module, date, pageable);
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "Consultar logs de actividad por cursor", description = "Más recientes primero, sin totales. Enviar en cursor el nextCursor de la respuesta anterior.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Listado de logs"),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "No autorizado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPaginatedResponse<ActivityLogDomain>> scrollLogs(
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(auditUseCasePort.scrollLogs(module, date, cursor, size));
+    }
 }
@@ -5,12 +5,16 @@ import com.audit.adapter.out.jpa.mapper.AuditMapper;
 import com.audit.adapter.out.jpa.repository.AuditLogJPARepository;
 import com.audit.domain.model.ActivityLogDomain;
 import com.audit.domain.port.out.AuditRepositoryPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -35,4 +39,16 @@ public class AuditRepositoryAdapter implements AuditRepositoryPort {
         }
         return entityPage.map(mapper::toDomain);
     }
+
+    @Override
+    public CursorPaginatedResponse<ActivityLogDomain> scrollLogs(String module, LocalDateTime start, LocalDateTime end,
+            CursorPosition after, int size) {
+        String qmodule = module == null || module.isEmpty() ? null : module;
+        Limit limit = Limit.of(size + 1);
+        List<ActivityLogEntity> rows = after == null
+                ? repository.scrollFirstLogs(qmodule, start, end, limit)
+                : repository.scrollLogs(qmodule, start, end, after.sortKey(), after.id(), limit);
+        return CursorPaginatedResponse.of(rows, size, e -> new CursorPosition(e.getTimestamp(), e.getId()))
+                .map(mapper::toDomain);
+    }
 }
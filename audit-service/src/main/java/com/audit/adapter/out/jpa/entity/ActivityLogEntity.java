@@ -17,7 +17,7 @@ import lombok.Setter;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "activity_logs")
+@Table(name = "activity_logs", indexes = @Index(name = "idx_activity_logs_timestamp_id", columnList = "timestamp, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class ActivityLogEntity {
 
@@ -1,12 +1,15 @@
 package com.audit.adapter.out.jpa.repository;
 
 import com.audit.adapter.out.jpa.entity.ActivityLogEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
@@ -17,4 +20,22 @@ public interface AuditLogJPARepository extends JpaRepository<ActivityLogEntity,
 
     Page<ActivityLogEntity> findAllByModuleAndTimestampBetween(String module, LocalDateTime start, LocalDateTime end,
                                                                Pageable pageable);
+
+    @Query("""
+            SELECT a FROM ActivityLogEntity a
+            WHERE a.timestamp BETWEEN :start AND :end
+              AND (:module IS NULL OR a.module = :module)
+            ORDER BY a.timestamp DESC, a.id DESC
+            """)
+    List<ActivityLogEntity> scrollFirstLogs(String module, LocalDateTime start, LocalDateTime end, Limit limit);
+
+    @Query("""
+            SELECT a FROM ActivityLogEntity a
+            WHERE a.timestamp BETWEEN :start AND :end
+              AND (:module IS NULL OR a.module = :module)
+              AND (a.timestamp, a.id) < (:afterTimestamp, :afterId)
+            ORDER BY a.timestamp DESC, a.id DESC
+            """)
+    List<ActivityLogEntity> scrollLogs(String module, LocalDateTime start, LocalDateTime end,
+                                       LocalDateTime afterTimestamp, UUID afterId, Limit limit);
 }
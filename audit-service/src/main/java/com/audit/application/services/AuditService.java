@@ -3,7 +3,9 @@ package com.audit.application.services;
 import com.audit.domain.model.ActivityLogDomain;
 import com.audit.domain.port.in.AuditUseCasePort;
 import com.audit.domain.port.out.AuditRepositoryPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
+import com.common.shared.application.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -43,4 +45,20 @@ public class AuditService implements AuditUseCasePort {
                 page.getTotalPages(),
                 page.isLast());
     }
+
+    /**
+     * Igual que retrieveLogs pero por cursor (más recientes primero): sin COUNT
+     * y con coste constante en páginas profundas.
+     */
+    @Override
+    public CursorPaginatedResponse<ActivityLogDomain> scrollLogs(String module, LocalDate date, String cursor, int size) {
+        if (date == null) {
+            date = LocalDate.now();
+        }
+        LocalDateTime start = date.atStartOfDay();
+        LocalDateTime end = date.atTime(23, 59, 59);
+
+        return auditRepositoryPort.scrollLogs(module, start, end, CursorCodec.decode(cursor),
+                CursorPaginatedResponse.normalizeSize(size));
+    }
 }
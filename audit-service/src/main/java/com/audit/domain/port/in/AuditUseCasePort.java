@@ -3,6 +3,7 @@ package com.audit.domain.port.in;
 import org.springframework.data.domain.Pageable;
 
 import com.audit.domain.model.ActivityLogDomain;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 
 import java.time.LocalDate;
@@ -11,4 +12,6 @@ public interface AuditUseCasePort {
     void logActivity(ActivityLogDomain activityLog);
 
     PaginatedResponse<ActivityLogDomain> retrieveLogs(String module, LocalDate date, Pageable pageable);
+
+    CursorPaginatedResponse<ActivityLogDomain> scrollLogs(String module, LocalDate date, String cursor, int size);
 }
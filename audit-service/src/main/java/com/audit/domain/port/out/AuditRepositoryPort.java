@@ -1,6 +1,8 @@
 package com.audit.domain.port.out;
 
 import com.audit.domain.model.ActivityLogDomain;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,4 +12,8 @@ public interface AuditRepositoryPort {
     void save(ActivityLogDomain activityLog);
 
     Page<ActivityLogDomain> findLogs(String module, LocalDateTime start, LocalDateTime end, Pageable pageable);
+
+    /** Página por cursor, más recientes primero; {@code after} null = primera página. */
+    CursorPaginatedResponse<ActivityLogDomain> scrollLogs(String module, LocalDateTime start, LocalDateTime end,
+            CursorPosition after, int size);
 }
@@ -1,18 +1,13 @@
 package com.auth.authservice;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.hibernate.autoconfigure.HibernateJpaAutoConfiguration;
-import org.springframework.boot.jdbc.autoconfigure.DataSourceAutoConfiguration;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 import com.common.shared.infrastructure.persistence.AuditingConfig;
 
-@SpringBootApplication(exclude = {
-        DataSourceAutoConfiguration.class,
-        HibernateJpaAutoConfiguration.class
-})
+@SpringBootApplication
 @ComponentScan(basePackages = { "com.auth.authservice",
         "com.common.shared" }, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = AuditingConfig.class))
 public class AuthServiceApplication {
@@ -0,0 +1,51 @@
+package com.auth.authservice.adapter.in.messaging;
+
+import com.auth.authservice.adapter.out.cache.UserSnapshotCache;
+import com.auth.authservice.security.service.RefreshTokenService;
+import com.common.shared.application.dto.UserChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class UserChangeConsumer {
+
+    private final UserSnapshotCache userSnapshotCache;
+    private final RefreshTokenService refreshTokenService;
+
+    /**
+     * Cambios publicados por user-management. Sin grupo en el binding: cada
+     * instancia de auth-service recibe todos los eventos.
+     */
+    @Bean
+    public Consumer<UserChangeEvent> userChangeConsumer() {
+        return event -> {
+            if (event == null || event.type() == null) {
+                return;
+            }
+            log.debug("Cambio de usuario recibido: {}", event);
+
+            if (event.affectsAllUsers()) {
+                userSnapshotCache.invalidateAll();
+                refreshTokenService.requireRevalidationForAll();
+                return;
+            }
+
+            for (String email : new String[] { event.email(), event.previousEmail() }) {
+                if (email == null) {
+                    continue;
+                }
+                userSnapshotCache.invalidate(email);
+                switch (event.type()) {
+                    case DEACTIVATED, CREDENTIALS_CHANGED -> refreshTokenService.revokeUser(email);
+                    default -> refreshTokenService.requireRevalidation(email);
+                }
+            }
+        };
+    }
+}
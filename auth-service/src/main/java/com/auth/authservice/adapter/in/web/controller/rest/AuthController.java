@@ -1,6 +1,7 @@
 package com.auth.authservice.adapter.in.web.controller.rest;
 
 import com.auth.authservice.adapter.in.web.request.LoginRequest;
+import com.auth.authservice.adapter.in.web.request.RefreshTokenRequest;
 import com.auth.authservice.application.dto.out.AuthResponse;
 import com.auth.authservice.security.service.AuthService;
 import com.common.shared.domain.exception.ErrorResponse;
@@ -24,7 +25,7 @@ public class AuthController {
 
         private final AuthService authService;
 
-        @Operation(summary = "Iniciar sesión", description = "Valida credenciales y retorna un JWT con los claims de email, roles y permisos.")
+        @Operation(summary = "Iniciar sesión", description = "Valida credenciales y retorna un JWT con los claims de email, roles y permisos, junto con un refresh token.")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Login exitoso", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
                         @ApiResponse(responseCode = "401", description = "Credenciales incorrectas o cuenta inactiva", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -34,4 +35,15 @@ public class AuthController {
                 AuthResponse res = authService.login(request);
                 return ResponseEntity.status(HttpStatus.OK).body(res);
         }
+
+        @Operation(summary = "Renovar token", description = "Canjea un refresh token por un JWT nuevo sin volver a validar la contraseña. El refresh token se rota: el anterior deja de ser válido y reutilizarlo revoca la sesión.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Token renovado", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+                        @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado, revocado o ya utilizado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @PostMapping("/refresh")
+        public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+                AuthResponse res = authService.refresh(request);
+                return ResponseEntity.status(HttpStatus.OK).body(res);
+        }
 }
@@ -0,0 +1,8 @@
+package com.auth.authservice.adapter.in.web.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+        @Schema(description = "Refresh token recibido en el último login o refresh") @NotBlank(message = "El refresh token es obligatorio") String refreshToken) {
+}
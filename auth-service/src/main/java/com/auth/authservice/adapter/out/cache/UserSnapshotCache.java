@@ -0,0 +1,81 @@
+package com.auth.authservice.adapter.out.cache;
+
+import com.auth.authservice.adapter.out.rest.UserRestClientAdapter;
+import com.auth.authservice.domain.port.in.GetUserForAuthUseCase;
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Caché de corta duración de los usuarios consultados a user-management, por
+ * email. Evita el salto de red (y la carga usuario→roles→permisos) en logins
+ * repetidos.
+ *
+ * Los eventos {@code UserChangeEvent} invalidan las entradas afectadas al
+ * momento; el TTL solo acota el desfase si se pierde un evento. Una
+ * invalidación que llega durante una carga espera a que termine y la descarta.
+ */
+@Component
+@Primary
+@Slf4j
+public class UserSnapshotCache implements GetUserForAuthUseCase {
+
+    private final UserRestClientAdapter delegate;
+    private final boolean enabled;
+    private final Cache<String, UserSecurityResponse> cache;
+
+    public UserSnapshotCache(
+            UserRestClientAdapter delegate,
+            @Value("${application.user-cache.enabled:true}") boolean enabled,
+            @Value("${application.user-cache.ttl:60s}") Duration ttl,
+            @Value("${application.user-cache.max-size:10000}") long maxSize) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        log.info("Caché de usuarios {} (ttl={}, max-size={})",
+                enabled ? "habilitada" : "deshabilitada", ttl, maxSize);
+    }
+
+    @Override
+    public UserSecurityResponse execute(String email) {
+        if (!enabled) {
+            return delegate.execute(email);
+        }
+        // Un null (usuario inexistente) no se cachea
+        return cache.get(normalize(email), delegate::execute);
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            cache.invalidate(normalize(email));
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,154 @@
+package com.auth.authservice.adapter.out.jpa;
+
+import com.auth.authservice.adapter.out.jpa.entity.RefreshFamilyEntity;
+import com.auth.authservice.adapter.out.jpa.repository.RefreshFamilyRepository;
+import com.auth.authservice.domain.model.RefreshFamily;
+import com.auth.authservice.domain.port.out.RefreshFamilyPort;
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.domain.exception.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshFamilyJpaAdapter implements RefreshFamilyPort {
+
+    private final RefreshFamilyRepository refreshFamilyRepository;
+
+    @Override
+    @Transactional
+    public void save(RefreshFamily family) {
+        try {
+            RefreshFamilyEntity entity = RefreshFamilyEntity.builder()
+                    .familyId(family.familyId())
+                    .secretHash(family.secretHash())
+                    .generationExpiresAt(family.generationExpiresAt())
+                    .expiresAt(family.expiresAt())
+                    .build();
+            applyIdentity(entity, family.user(), family.validatedAt());
+            refreshFamilyRepository.save(entity);
+        } catch (Exception e) {
+            log.error("Error al guardar sesión de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al guardar sesión de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RefreshFamily> findById(String familyId) {
+        try {
+            return refreshFamilyRepository.findById(familyId).map(RefreshFamilyJpaAdapter::toDomain);
+        } catch (Exception e) {
+            log.error("Error al buscar sesión de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al buscar sesión de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean rotate(String familyId, byte[] currentHash, byte[] nextHash, Instant nextExpiresAt) {
+        try {
+            return refreshFamilyRepository.rotate(familyId, currentHash, nextHash, nextExpiresAt) == 1;
+        } catch (Exception e) {
+            log.error("Error al rotar sesión de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al rotar sesión de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void updateIdentity(String familyId, UserSecurityResponse user, Instant validatedAt) {
+        try {
+            refreshFamilyRepository.findById(familyId)
+                    .ifPresent(entity -> applyIdentity(entity, user, validatedAt));
+        } catch (Exception e) {
+            log.error("Error al actualizar sesión de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al actualizar sesión de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(String familyId) {
+        try {
+            refreshFamilyRepository.deleteById(familyId);
+        } catch (Exception e) {
+            log.error("Error al eliminar sesión de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al eliminar sesión de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteByEmail(String email) {
+        try {
+            return refreshFamilyRepository.deleteByEmailKey(emailKey(email));
+        } catch (Exception e) {
+            log.error("Error al revocar sesiones de refresh de {}: {}", email, e.getMessage(), e);
+            throw new PersistenceException("Error al revocar sesiones de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void invalidateValidation(String email) {
+        try {
+            refreshFamilyRepository.updateValidatedAtByEmailKey(emailKey(email), Instant.EPOCH);
+        } catch (Exception e) {
+            log.error("Error al invalidar sesiones de refresh de {}: {}", email, e.getMessage(), e);
+            throw new PersistenceException("Error al invalidar sesiones de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void invalidateAllValidations() {
+        try {
+            refreshFamilyRepository.updateValidatedAtForAll(Instant.EPOCH);
+        } catch (Exception e) {
+            log.error("Error al invalidar sesiones de refresh: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al invalidar sesiones de refresh", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int deleteExpired(Instant now) {
+        try {
+            return refreshFamilyRepository.deleteExpired(now);
+        } catch (Exception e) {
+            log.error("Error al eliminar sesiones de refresh expiradas: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al eliminar sesiones de refresh expiradas", e);
+        }
+    }
+
+    private static void applyIdentity(RefreshFamilyEntity entity, UserSecurityResponse user, Instant validatedAt) {
+        entity.setEmailKey(emailKey(user.email()));
+        entity.setEmail(user.email());
+        entity.setUserId(user.userId());
+        entity.setEnabled(user.enabled());
+        entity.setRoleNames(user.roles() == null ? new ArrayList<>() : new ArrayList<>(user.roles()));
+        entity.setPermissionNames(user.permissions() == null ? new ArrayList<>() : new ArrayList<>(user.permissions()));
+        entity.setValidatedAt(validatedAt);
+    }
+
+    private static RefreshFamily toDomain(RefreshFamilyEntity entity) {
+        UserSecurityResponse user = new UserSecurityResponse(entity.getUserId(), entity.getEmail(), null,
+                entity.isEnabled(), List.copyOf(entity.getRoleNames()), List.copyOf(entity.getPermissionNames()));
+        return new RefreshFamily(entity.getFamilyId(), user, entity.getSecretHash(),
+                entity.getGenerationExpiresAt(), entity.getExpiresAt(), entity.getValidatedAt());
+    }
+
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,63 @@
+package com.auth.authservice.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "refresh_token_family", indexes = {
+        @Index(name = "idx_refresh_token_family_email_key", columnList = "email_key"),
+        @Index(name = "idx_refresh_token_family_generation_expires_at", columnList = "generation_expires_at")
+})
+public class RefreshFamilyEntity implements Serializable {
+
+    @Id
+    @Column(name = "family_id", length = 32)
+    private String familyId;
+
+    // Email en minúsculas: las revocaciones por evento no distinguen mayúsculas
+    @Column(name = "email_key", nullable = false)
+    private String emailKey;
+
+    @Column(name = "email", nullable = false)
+    private String email;
+
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "is_enabled")
+    private boolean enabled;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "role_names", columnDefinition = "text[]")
+    private List<String> roleNames = new ArrayList<>();
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "permission_names", columnDefinition = "text[]")
+    private List<String> permissionNames = new ArrayList<>();
+
+    @Column(name = "secret_hash", nullable = false)
+    private byte[] secretHash;
+
+    @Column(name = "generation_expires_at", nullable = false)
+    private Instant generationExpiresAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "validated_at", nullable = false)
+    private Instant validatedAt;
+}
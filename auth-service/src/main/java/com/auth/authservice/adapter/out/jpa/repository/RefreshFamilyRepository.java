@@ -0,0 +1,39 @@
+package com.auth.authservice.adapter.out.jpa.repository;
+
+import com.auth.authservice.adapter.out.jpa.entity.RefreshFamilyEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface RefreshFamilyRepository extends JpaRepository<RefreshFamilyEntity, String> {
+
+    // Compare-and-set en una sentencia: de dos usos simultáneos del mismo token solo uno actualiza
+    @Modifying
+    @Query("""
+            UPDATE RefreshFamilyEntity f
+            SET f.secretHash = :nextHash, f.generationExpiresAt = :nextExpiresAt
+            WHERE f.familyId = :familyId AND f.secretHash = :currentHash
+            """)
+    int rotate(String familyId, byte[] currentHash, byte[] nextHash, Instant nextExpiresAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshFamilyEntity f WHERE f.emailKey = :emailKey")
+    int deleteByEmailKey(String emailKey);
+
+    @Modifying
+    @Query("UPDATE RefreshFamilyEntity f SET f.validatedAt = :validatedAt WHERE f.emailKey = :emailKey")
+    int updateValidatedAtByEmailKey(String emailKey, Instant validatedAt);
+
+    @Modifying
+    @Query("UPDATE RefreshFamilyEntity f SET f.validatedAt = :validatedAt")
+    int updateValidatedAtForAll(Instant validatedAt);
+
+    @Modifying
+    @Query("DELETE FROM RefreshFamilyEntity f WHERE f.generationExpiresAt <= :now")
+    int deleteExpired(Instant now);
+}
@@ -2,24 +2,113 @@ package com.auth.authservice.adapter.out.rest;
 
 import com.auth.authservice.domain.port.in.GetUserForAuthUseCase;
 import com.common.shared.application.dto.UserSecurityResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Consulta de usuarios a user-management para el login y el refresh.
+ *
+ * Es una lectura idempotente: los fallos de red y los 502/503/504 se
+ * reintentan con backoff exponencial y jitter completo. Los 4xx (p.ej. usuario
+ * inexistente) no se reintentan.
+ */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class UserRestClientAdapter implements GetUserForAuthUseCase {
 
+    private static final String FIND_BY_USERNAME = "/search/findByUsername?username={username}";
+
     private final RestTemplate restTemplate;
+    private final String findByUsernameUrl;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final MeterRegistry meterRegistry;
+    private final Counter retries;
 
-    @Value("${application.services.user-service.url}")
-    private String userServiceUrl;
+    public UserRestClientAdapter(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            // p.ej. http://user-management-service:8082/internal/users
+            @Value("${application.services.user-service.url}") String userServiceUrl,
+            @Value("${application.http-client.retry.max-attempts:3}") int maxAttempts,
+            @Value("${application.http-client.retry.backoff:100ms}") Duration backoff) {
+        this.restTemplate = restTemplate;
+        this.meterRegistry = meterRegistry;
+        this.findByUsernameUrl = userServiceUrl + FIND_BY_USERNAME;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoff.toMillis();
+        this.retries = Counter.builder("auth.user-service.retries")
+                .description("Reintentos de consultas a user-management")
+                .register(meterRegistry);
+    }
 
     @Override
     public UserSecurityResponse execute(String email) {
-        // userServiceUrl should be http://user-management-service:8082/internal/users
-        String url = userServiceUrl + "/search/findByUsername?username=" + email;
-        return restTemplate.getForObject(url, UserSecurityResponse.class);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            UserSecurityResponse user = findWithRetry(email);
+            outcome = "success";
+            return user;
+        } catch (HttpClientErrorException.NotFound e) {
+            outcome = "not_found";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("auth.user-service.lookup")
+                    .description("Latencia de la consulta de usuario, reintentos incluidos")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private UserSecurityResponse findWithRetry(String email) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return restTemplate.getForObject(findByUsernameUrl, UserSecurityResponse.class, email);
+            } catch (RestClientException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("Consulta a user-management fallida (intento {}/{}): {}", attempt, maxAttempts,
+                        e.getMessage());
+                sleepBeforeRetry(attempt);
+            }
+        }
+    }
+
+    private static boolean isRetryable(RestClientException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof HttpServerErrorException serverError) {
+            int code = serverError.getStatusCode().value();
+            return code == 502 || code == 503 || code == 504;
+        }
+        return false;
+    }
+
+    // Jitter completo: espera aleatoria en [0, backoff * 2^(intento-1)]
+    private void sleepBeforeRetry(int attempt) {
+        long ceiling = backoffMillis << (attempt - 1);
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResourceAccessException("Reintento interrumpido");
+        }
     }
 }
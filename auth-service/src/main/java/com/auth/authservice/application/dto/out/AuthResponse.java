@@ -1,4 +1,7 @@
 package com.auth.authservice.application.dto.out;
 
-public record AuthResponse(String token) {
+/**
+ * @param expiresIn segundos de vida del access token
+ */
+public record AuthResponse(String token, String refreshToken, long expiresIn) {
 }
@@ -1,14 +1,69 @@
 package com.auth.authservice.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.time.Duration;
+
+/**
+ * Cliente hacia user-management: pool de conexiones persistentes y límites de
+ * tiempo en cada fase (obtener conexión, conectar, leer), de modo que una
+ * instancia lenta no retiene los hilos de login indefinidamente.
+ */
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient userServiceHttpClient(
+            @Value("${application.http-client.max-connections:50}") int maxConnections,
+            @Value("${application.http-client.acquire-timeout:1s}") Duration acquireTimeout,
+            @Value("${application.http-client.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${application.http-client.read-timeout:3s}") Duration readTimeout,
+            @Value("${application.http-client.keep-alive:30s}") Duration keepAlive) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                .build());
+
+        TimeValue keepAliveValue = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(acquireTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAliveValue)
+                .evictIdleConnections(keepAliveValue)
+                // Los reintentos los decide UserRestClientAdapter (solo lecturas idempotentes)
+                .disableAutomaticRetries()
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(CloseableHttpClient userServiceHttpClient,
+            @Value("${application.http-client.read-timeout:3s}") Duration readTimeout) {
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                new HttpComponentsClientHttpRequestFactory(userServiceHttpClient);
+        requestFactory.setReadTimeout(readTimeout);
+
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        // Codifica por completo los valores de las variables ({username}), incluido '+'
+        DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory();
+        uriBuilderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
+        restTemplate.setUriTemplateHandler(uriBuilderFactory);
+        return restTemplate;
     }
 }
@@ -0,0 +1,27 @@
+package com.auth.authservice.domain.model;
+
+import com.common.shared.application.dto.UserSecurityResponse;
+
+import java.time.Instant;
+
+/**
+ * Sesión de refresh: nace en un login y rota su secreto en cada uso.
+ *
+ * @param user                identidad firmada en el último login o revalidación (sin contraseña)
+ * @param secretHash          SHA-256 del único secreto válido
+ * @param generationExpiresAt vencimiento del secreto vigente; nunca pasa de {@code expiresAt}
+ * @param expiresAt           vida máxima de la familia
+ * @param validatedAt         última vez que la identidad se contrastó con user-management
+ */
+public record RefreshFamily(
+        String familyId,
+        UserSecurityResponse user,
+        byte[] secretHash,
+        Instant generationExpiresAt,
+        Instant expiresAt,
+        Instant validatedAt) {
+
+    public boolean isExpired(Instant now) {
+        return !generationExpiresAt.isAfter(now);
+    }
+}
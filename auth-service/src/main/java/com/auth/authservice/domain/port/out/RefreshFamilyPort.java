@@ -0,0 +1,37 @@
+package com.auth.authservice.domain.port.out;
+
+import com.auth.authservice.domain.model.RefreshFamily;
+import com.common.shared.application.dto.UserSecurityResponse;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Almacén compartido de las familias de refresh tokens: todas las instancias
+ * de auth-service ven las mismas sesiones.
+ */
+public interface RefreshFamilyPort {
+    void save(RefreshFamily family);
+
+    Optional<RefreshFamily> findById(String familyId);
+
+    /**
+     * Sustituye el secreto solo si sigue siendo {@code currentHash}.
+     *
+     * @return {@code false} si otro uso del mismo token rotó antes
+     */
+    boolean rotate(String familyId, byte[] currentHash, byte[] nextHash, Instant nextExpiresAt);
+
+    void updateIdentity(String familyId, UserSecurityResponse user, Instant validatedAt);
+
+    void deleteById(String familyId);
+
+    int deleteByEmail(String email);
+
+    /** Fuerza la revalidación de la identidad en el próximo refresh. */
+    void invalidateValidation(String email);
+
+    void invalidateAllValidations();
+
+    int deleteExpired(Instant now);
+}
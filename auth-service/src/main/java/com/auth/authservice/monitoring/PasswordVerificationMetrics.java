@@ -0,0 +1,52 @@
+package com.auth.authservice.monitoring;
+
+import com.auth.authservice.security.service.PasswordVerificationExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas del pool de verificación de contraseñas (BCrypt).
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordVerificationMetrics implements MeterBinder {
+
+    private final PasswordVerificationExecutor executor;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.password.queue.depth", executor, PasswordVerificationExecutor::queueDepth)
+                .description("Verificaciones esperando un hilo libre")
+                .register(registry);
+        Gauge.builder("auth.password.active", executor, PasswordVerificationExecutor::activeCount)
+                .description("Verificaciones en ejecución")
+                .register(registry);
+        Gauge.builder("auth.password.pool.size", executor, PasswordVerificationExecutor::poolSize)
+                .register(registry);
+        FunctionTimer.builder("auth.password.verify", executor,
+                        PasswordVerificationExecutor::verifications, PasswordVerificationExecutor::verifyNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Tiempo de CPU en BCrypt por verificación")
+                .register(registry);
+        FunctionTimer.builder("auth.password.queue.wait", executor,
+                        PasswordVerificationExecutor::verifications, PasswordVerificationExecutor::queueWaitNanos,
+                        TimeUnit.NANOSECONDS)
+                .description("Tiempo en cola antes de verificar")
+                .register(registry);
+        FunctionCounter.builder("auth.password.rejected", executor, PasswordVerificationExecutor::rejectedQueueFull)
+                .description("Logins rechazados con 503 por saturación")
+                .tag("reason", "queue_full")
+                .register(registry);
+        FunctionCounter.builder("auth.password.rejected", executor, PasswordVerificationExecutor::rejectedTimeout)
+                .description("Logins rechazados con 503 por saturación")
+                .tag("reason", "timeout")
+                .register(registry);
+    }
+}
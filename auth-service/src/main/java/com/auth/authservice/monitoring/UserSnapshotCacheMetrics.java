@@ -0,0 +1,33 @@
+package com.auth.authservice.monitoring;
+
+import com.auth.authservice.adapter.out.cache.UserSnapshotCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aciertos, fallos y evicciones de la caché de usuarios de auth-service.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSnapshotCacheMetrics implements MeterBinder {
+
+    private final UserSnapshotCache userCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.user.cache.requests", userCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.requests", userCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("auth.user.cache.evictions", userCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("auth.user.cache.size", userCache, UserSnapshotCache::estimatedSize)
+                .register(registry);
+    }
+}
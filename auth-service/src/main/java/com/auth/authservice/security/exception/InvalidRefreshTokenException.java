@@ -0,0 +1,10 @@
+package com.auth.authservice.security.exception;
+
+import org.springframework.security.core.AuthenticationException;
+
+// AuthenticationException: el GlobalExceptionHandler común lo traduce a 401
+public class InvalidRefreshTokenException extends AuthenticationException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
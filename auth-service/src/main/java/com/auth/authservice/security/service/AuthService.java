@@ -1,6 +1,7 @@
 package com.auth.authservice.security.service;
 
 import com.auth.authservice.adapter.in.web.request.LoginRequest;
+import com.auth.authservice.adapter.in.web.request.RefreshTokenRequest;
 import com.auth.authservice.application.dto.out.AuthResponse;
 import com.auth.authservice.domain.port.in.GetUserForAuthUseCase;
 
@@ -10,7 +11,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -22,7 +22,9 @@ public class AuthService {
 
     private final JwtUtil jwtUtil;
     private final GetUserForAuthUseCase getUserForAuthUseCase;
-    private final PasswordEncoder passwordEncoder;
+    // BCrypt fuera de los hilos de Tomcat, con rechazo rápido si está saturado
+    private final PasswordVerificationExecutor passwordVerifier;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthResponse login(LoginRequest request) {
         String email = request.email() == null ? "" : request.email().trim().toLowerCase();
@@ -47,7 +49,7 @@ public class AuthService {
             throw new BadCredentialsException("Credenciales erróneas");
         }
 
-        boolean matches = passwordEncoder.matches(request.password(), stored);
+        boolean matches = passwordVerifier.matches(request.password(), stored);
         log.debug("¿Coincide la contraseña para {}? {}", email, matches);
 
         if (!matches) {
@@ -65,15 +67,28 @@ public class AuthService {
         List<String> roles = user.roles();
         List<String> permissions = user.permissions();
 
-        String token = jwtUtil.generateToken(new UserSecurityResponse(
+        UserSecurityResponse identity = new UserSecurityResponse(
                 user.userId(),
                 user.email(),
                 user.password(),
                 user.enabled(),
                 roles,
                 permissions
-        ));
+        );
+        String token = jwtUtil.generateToken(identity);
+        String refreshToken = refreshTokenService.issue(identity);
         log.info("Inicio de sesión exitoso para email={}", email);
-        return new AuthResponse(token);
+        return new AuthResponse(token, refreshToken, jwtUtil.getExpirationMs() / 1000);
+    }
+
+    /**
+     * Emite un access token nuevo a partir de un refresh token, sin BCrypt y
+     * normalmente sin consultar user-management. El refresh token se rota.
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+        String token = jwtUtil.generateToken(rotation.user());
+        log.debug("Access token renovado para email={}", rotation.user().email());
+        return new AuthResponse(token, rotation.refreshToken(), jwtUtil.getExpirationMs() / 1000);
     }
 }
@@ -0,0 +1,163 @@
+package com.auth.authservice.security.service;
+
+import com.common.shared.domain.exception.ServiceOverloadedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bulkhead para BCrypt: las verificaciones de contraseña corren en un pool
+ * propio del tamaño de los cores con una cola acotada, en lugar de ocupar
+ * los hilos de Tomcat.
+ *
+ * Con la cola llena, o si la verificación no empieza y termina dentro de
+ * {@code max-wait}, la petición se rechaza al momento con
+ * {@link ServiceOverloadedException} (503 + Retry-After). Así una ráfaga de
+ * logins satura solo este pool y el resto de endpoints sigue respondiendo.
+ */
+@Component
+@Slf4j
+public class PasswordVerificationExecutor {
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder verifyNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder rejectedTimeout = new LongAdder();
+
+    public PasswordVerificationExecutor(
+            PasswordEncoder passwordEncoder,
+            @Value("${application.password-verification.threads:0}") int threads,
+            @Value("${application.password-verification.queue-capacity:64}") int queueCapacity,
+            @Value("${application.password-verification.max-wait:2s}") Duration maxWait) {
+        this.passwordEncoder = passwordEncoder;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Verificación de contraseñas: {} hilos, cola de {}, espera máxima {}",
+                poolSize, queueCapacity, maxWait);
+    }
+
+    /**
+     * Equivalente a {@link PasswordEncoder#matches} ejecutado en el pool.
+     *
+     * @throws ServiceOverloadedException si el pool está saturado
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submitted = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> verify(rawPassword, encodedPassword, submitted));
+        } catch (RejectedExecutionException e) {
+            rejectedQueueFull.increment();
+            throw overloaded();
+        }
+
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            rejectedTimeout.increment();
+            discard(future);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard(future);
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Error verificando la contraseña", e.getCause());
+        }
+    }
+
+    private boolean verify(CharSequence rawPassword, String encodedPassword, long submitted) {
+        long start = System.nanoTime();
+        queueWaitNanos.add(start - submitted);
+        try {
+            return passwordEncoder.matches(rawPassword, encodedPassword);
+        } finally {
+            verifyNanos.add(System.nanoTime() - start);
+            verifications.increment();
+        }
+    }
+
+    // Si aún está en cola se retira sin llegar a gastar CPU en un hash que nadie espera
+    private void discard(Future<Boolean> future) {
+        future.cancel(false);
+        if (future instanceof FutureTask<Boolean> task) {
+            executor.remove(task);
+        }
+    }
+
+    private static ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException(
+                "Demasiados inicios de sesión en curso, reintente en unos segundos", RETRY_AFTER_SECONDS);
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int poolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public long verifications() {
+        return verifications.sum();
+    }
+
+    public long verifyNanos() {
+        return verifyNanos.sum();
+    }
+
+    public long queueWaitNanos() {
+        return queueWaitNanos.sum();
+    }
+
+    public long rejectedQueueFull() {
+        return rejectedQueueFull.sum();
+    }
+
+    public long rejectedTimeout() {
+        return rejectedTimeout.sum();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
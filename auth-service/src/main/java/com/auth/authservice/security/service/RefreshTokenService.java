@@ -0,0 +1,224 @@
+package com.auth.authservice.security.service;
+
+import com.auth.authservice.domain.model.RefreshFamily;
+import com.auth.authservice.domain.port.in.GetUserForAuthUseCase;
+import com.auth.authservice.domain.port.out.RefreshFamilyPort;
+import com.auth.authservice.security.exception.InvalidRefreshTokenException;
+import com.common.shared.application.dto.UserSecurityResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh tokens opacos con rotación, guardados en la base de datos de
+ * auth-service (tabla refresh_token_family) y compartidos por sus instancias.
+ *
+ * Formato {@code <familia>.<secreto>}: cada familia nace en un login y guarda
+ * la identidad firmada entonces (sin contraseña), de modo que el refresh emite
+ * un access token nuevo sin BCrypt ni llamada a user-management. Solo el último
+ * secreto de la familia es válido; presentar uno ya rotado se trata como robo y
+ * revoca la familia entera, llegue a la instancia que llegue.
+ *
+ * La identidad se revalida contra user-management (sin comprobar contraseña)
+ * cuando tiene más de {@code jwt.refresh.revalidate-after}.
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final GetUserForAuthUseCase getUserForAuthUseCase;
+    private final RefreshFamilyPort refreshFamilyPort;
+    private final Duration ttl;
+    private final Duration maxLifetime;
+    private final Duration revalidateAfter;
+
+    private ScheduledExecutorService sweeper;
+
+    public RefreshTokenService(
+            GetUserForAuthUseCase getUserForAuthUseCase,
+            RefreshFamilyPort refreshFamilyPort,
+            @Value("${jwt.refresh.ttl:12h}") Duration ttl,
+            @Value("${jwt.refresh.max-lifetime:7d}") Duration maxLifetime,
+            @Value("${jwt.refresh.revalidate-after:15m}") Duration revalidateAfter) {
+        this.getUserForAuthUseCase = getUserForAuthUseCase;
+        this.refreshFamilyPort = refreshFamilyPort;
+        this.ttl = ttl;
+        this.maxLifetime = maxLifetime;
+        this.revalidateAfter = revalidateAfter;
+    }
+
+    /** Token rotado y la identidad con la que firmar el nuevo access token. */
+    public record Rotation(String refreshToken, UserSecurityResponse user) {
+    }
+
+    /** Abre una familia nueva tras un login correcto. */
+    public String issue(UserSecurityResponse user) {
+        Instant now = Instant.now();
+        String familyId = ENCODER.encodeToString(randomBytes(16));
+        byte[] secret = randomBytes(32);
+        Instant familyExpiresAt = now.plus(maxLifetime);
+        refreshFamilyPort.save(new RefreshFamily(familyId, withoutPassword(user), sha256(secret),
+                earliest(now.plus(ttl), familyExpiresAt), familyExpiresAt, now));
+        return familyId + '.' + ENCODER.encodeToString(secret);
+    }
+
+    /**
+     * Valida el refresh token y lo sustituye por uno nuevo de la misma familia.
+     *
+     * @throws InvalidRefreshTokenException si es desconocido, expiró, la cuenta
+     *                                      ya no está habilitada o es un token
+     *                                      ya rotado (la familia se revoca)
+     */
+    public Rotation rotate(String refreshToken) {
+        int dot = refreshToken == null ? -1 : refreshToken.indexOf('.');
+        if (dot <= 0) {
+            throw new InvalidRefreshTokenException("Refresh token inválido");
+        }
+        String familyId = refreshToken.substring(0, dot);
+        byte[] presented;
+        try {
+            presented = sha256(DECODER.decode(refreshToken.substring(dot + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRefreshTokenException("Refresh token inválido");
+        }
+
+        Instant now = Instant.now();
+        Optional<RefreshFamily> found = refreshFamilyPort.findById(familyId);
+        if (found.isEmpty()) {
+            throw new InvalidRefreshTokenException("Refresh token expirado o revocado");
+        }
+        RefreshFamily family = found.get();
+        if (family.isExpired(now)) {
+            refreshFamilyPort.deleteById(familyId);
+            throw new InvalidRefreshTokenException("Refresh token expirado o revocado");
+        }
+        if (!MessageDigest.isEqual(family.secretHash(), presented)) {
+            revokeReused(family);
+        }
+
+        // Antes de rotar: si user-management falla, el cliente puede reintentar con el mismo token
+        UserSecurityResponse user = revalidateIfStale(family, now);
+
+        byte[] nextSecret = randomBytes(32);
+        Instant nextExpiresAt = earliest(now.plus(ttl), family.expiresAt());
+        if (!refreshFamilyPort.rotate(familyId, family.secretHash(), sha256(nextSecret), nextExpiresAt)) {
+            // Otro uso simultáneo del mismo token (en esta u otra instancia) ganó la rotación
+            revokeReused(family);
+        }
+        return new Rotation(familyId + '.' + ENCODER.encodeToString(nextSecret), user);
+    }
+
+    /** Revoca todas las sesiones del usuario (desactivación, cambio de contraseña). */
+    public void revokeUser(String email) {
+        if (refreshFamilyPort.deleteByEmail(email) > 0) {
+            log.info("Sesiones de refresh revocadas para {}", email);
+        }
+    }
+
+    /** El próximo refresh del usuario vuelve a consultar sus roles y permisos. */
+    public void requireRevalidation(String email) {
+        refreshFamilyPort.invalidateValidation(email);
+    }
+
+    public void requireRevalidationForAll() {
+        refreshFamilyPort.invalidateAllValidations();
+    }
+
+    private UserSecurityResponse revalidateIfStale(RefreshFamily family, Instant now) {
+        if (family.validatedAt().plus(revalidateAfter).isAfter(now)) {
+            return family.user();
+        }
+        UserSecurityResponse fresh;
+        try {
+            fresh = getUserForAuthUseCase.execute(family.user().email());
+        } catch (HttpClientErrorException.NotFound e) {
+            fresh = null;
+        }
+        if (fresh == null || !fresh.enabled()) {
+            refreshFamilyPort.deleteById(family.familyId());
+            log.info("Sesión de refresh revocada: cuenta no disponible para {}", family.user().email());
+            throw new InvalidRefreshTokenException("Cuenta deshabilitada");
+        }
+        UserSecurityResponse user = withoutPassword(fresh);
+        refreshFamilyPort.updateIdentity(family.familyId(), user, now);
+        return user;
+    }
+
+    private void revokeReused(RefreshFamily family) {
+        refreshFamilyPort.deleteById(family.familyId());
+        log.warn("Reutilización de refresh token detectada, sesión revocada para {}", family.user().email());
+        throw new InvalidRefreshTokenException("Refresh token ya utilizado");
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "refresh-token-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, 1, 1, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    private void sweep() {
+        try {
+            int removed = refreshFamilyPort.deleteExpired(Instant.now());
+            if (removed > 0) {
+                log.debug("Refresh tokens: {} sesiones expiradas eliminadas", removed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron eliminar las sesiones de refresh expiradas: {}", e.getMessage());
+        }
+    }
+
+    private static UserSecurityResponse withoutPassword(UserSecurityResponse user) {
+        return new UserSecurityResponse(user.userId(), user.email(), null, user.enabled(),
+                user.roles() == null ? List.of() : List.copyOf(user.roles()),
+                user.permissions() == null ? List.of() : List.copyOf(user.permissions()));
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        RANDOM.nextBytes(bytes);
+        return bytes;
+    }
+
+    // Solo se guarda el hash: un volcado de la tabla no expone tokens utilizables
+    private static byte[] sha256(byte[] secret) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(secret);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
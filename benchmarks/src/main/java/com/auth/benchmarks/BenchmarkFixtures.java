@@ -0,0 +1,52 @@
+package com.auth.benchmarks;
+
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.JwtUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Datos compartidos por los benchmarks. Usa los mismos secretos de ejemplo que
+ * los application.yml para que los tokens tengan el tamaño real.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    static final String ENVELOPE_SECRET = "6B5970337336763979244226452948404D635166546A576E5A7234753778217A";
+    static final long EXPIRATION_MS = 3_600_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        return new JwtUtil(JWT_SECRET, EXPIRATION_MS);
+    }
+
+    static IdentityEnvelopeCodec envelopeCodec() {
+        return new IdentityEnvelopeCodec(true, ENVELOPE_SECRET);
+    }
+
+    /**
+     * Usuario con {@code roles} roles y {@code permissions} permisos, como los
+     * que el auth-service firma en el login.
+     */
+    static UserSecurityResponse user(int roles, int permissions) {
+        List<String> roleNames = new ArrayList<>(roles);
+        roleNames.add("ROLE_ADMIN");
+        for (int i = 1; i < roles; i++) {
+            roleNames.add("ROLE_GROUP_" + i);
+        }
+        List<String> permissionNames = new ArrayList<>(permissions);
+        permissionNames.add("READ_PRIVILEGES");
+        permissionNames.add("WRITE_PRIVILEGES");
+        for (int i = 2; i < permissions; i++) {
+            permissionNames.add("MODULE_" + (i % 7) + "_ACTION_" + i);
+        }
+        return new UserSecurityResponse(UUID.randomUUID().toString(), "bench.user@example.com",
+                "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3b5cZy1a3LzS3Xo1lFz3GxK", true,
+                roleNames, permissionNames);
+    }
+}
@@ -0,0 +1,106 @@
+package com.auth.benchmarks;
+
+import com.auth.gatewayservice.filter.AuthenticationFilter;
+import com.auth.gatewayservice.security.PathRules;
+import com.auth.gatewayservice.security.VerifiedTokenCache;
+import com.common.shared.security.filter.JwtAuthenticationFilter;
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.GrantedAuthorityCache;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.JwtUtil;
+import jakarta.servlet.GenericServlet;
+import jakarta.servlet.Servlet;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationFilter del gateway, solo y seguido del JwtAuthenticationFilter
+ * de la cadena de Spring Security (el recorrido real de una request).
+ *
+ * Con {@code tokenCache=false} cada request vuelve a verificar la firma.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class GatewayAuthenticationFilterBenchmark {
+
+    // Servlet final de la cadena: no hace nada para medir solo los filtros
+    private static final Servlet NO_OP_SERVLET = new GenericServlet() {
+        @Override
+        public void service(ServletRequest req, ServletResponse res) {
+        }
+    };
+
+    @Param({"true", "false"})
+    private boolean tokenCache;
+
+    @Param({"/api/users/search", "/api/auth/login"})
+    private String path;
+
+    private AuthenticationFilter gatewayFilter;
+    private JwtAuthenticationFilter jwtFilter;
+    private String authorization;
+
+    @Setup
+    public void setup() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        IdentityEnvelopeCodec envelopeCodec = BenchmarkFixtures.envelopeCodec();
+        AuthEventLogger authEventLogger = new AuthEventLogger(10);
+        // Mismas reglas por defecto que application.gateway.paths.*
+        PathRules pathRules = new PathRules(
+                new String[]{"/api/auth/**", "/api-docs/**", "/v3/api-docs/**", "/swagger-ui/**",
+                        "/swagger-ui.html"},
+                new String[]{"/internal/**"},
+                new String[0]);
+
+        gatewayFilter = new AuthenticationFilter(new VerifiedTokenCache(jwtUtil, tokenCache, 10_000),
+                pathRules, envelopeCodec, authEventLogger);
+        jwtFilter = new JwtAuthenticationFilter(jwtUtil, envelopeCodec,
+                new GrantedAuthorityCache(1024), authEventLogger);
+        authorization = "Bearer " + jwtUtil.generateToken(BenchmarkFixtures.user(3, 20));
+    }
+
+    private MockHttpServletRequest mockRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader("Authorization", authorization);
+        return request;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse gatewayFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        gatewayFilter.doFilter(mockRequest(), response, new MockFilterChain());
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse gatewayPipeline() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            gatewayFilter.doFilter(mockRequest(), response, new MockFilterChain(NO_OP_SERVLET, jwtFilter));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,89 @@
+package com.auth.benchmarks;
+
+import com.common.shared.security.filter.JwtAuthenticationFilter;
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.GrantedAuthorityCache;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter tal como corre en los servicios internos: con el JWT
+ * del cliente o con el sobre de identidad que añade el gateway.
+ *
+ * {@code mockRequest} mide solo la construcción de los mocks para poder
+ * descontarla del resto.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"jwt", "envelope"})
+    private String credential;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private String envelope;
+
+    @Setup
+    public void setup() throws Exception {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        IdentityEnvelopeCodec envelopeCodec = BenchmarkFixtures.envelopeCodec();
+        filter = new JwtAuthenticationFilter(jwtUtil, envelopeCodec,
+                new GrantedAuthorityCache(1024), new AuthEventLogger(10));
+
+        String token = jwtUtil.generateToken(BenchmarkFixtures.user(3, 20));
+        authorization = "Bearer " + token;
+        envelope = envelopeCodec.encode(jwtUtil.verify(token));
+
+        // Un fallo de configuración mediría el camino de error sin avisar
+        MockHttpServletRequest request = mockRequest();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            throw new IllegalStateException("El filtro no autenticó la request de prueba (" + credential + ")");
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public MockHttpServletRequest mockRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/search");
+        if ("envelope".equals(credential)) {
+            request.addHeader(IdentityEnvelopeCodec.HEADER, envelope);
+        } else {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(mockRequest(), response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,82 @@
+package com.auth.benchmarks;
+
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.JwtUtil;
+import com.common.shared.security.util.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coste de emitir y verificar un JWT, y del sobre de identidad que lo
+ * sustituye en los saltos internos.
+ *
+ * {@code extractAllClaims} es el camino previo a VerifiedToken y sirve de
+ * referencia para {@code verify}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    // Nº de permisos en el token: determina su tamaño y el coste de parsear los claims
+    @Param({"2", "20", "100"})
+    private int permissions;
+
+    private JwtUtil jwtUtil;
+    private IdentityEnvelopeCodec envelopeCodec;
+    private UserSecurityResponse user;
+    private String token;
+    private VerifiedToken verified;
+    private String envelope;
+
+    @Setup
+    public void setup() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        envelopeCodec = BenchmarkFixtures.envelopeCodec();
+        user = BenchmarkFixtures.user(3, permissions);
+        token = jwtUtil.generateToken(user);
+        verified = jwtUtil.verify(token);
+        envelope = envelopeCodec.encode(verified);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtUtil.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public String encodeEnvelope() {
+        return envelopeCodec.encode(verified);
+    }
+
+    @Benchmark
+    public VerifiedToken decodeEnvelope() {
+        return envelopeCodec.decode(envelope);
+    }
+}
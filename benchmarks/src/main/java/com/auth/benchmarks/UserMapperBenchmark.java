@@ -0,0 +1,106 @@
+package com.auth.benchmarks;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.Module;
+import com.auth.usermanagement.adapter.out.jpa.entity.Permission;
+import com.auth.usermanagement.adapter.out.jpa.entity.Role;
+import com.auth.usermanagement.adapter.out.jpa.entity.User;
+import com.auth.usermanagement.adapter.out.jpa.mapper.UserJPAMapper;
+import com.auth.usermanagement.application.dto.out.UserResponse;
+import com.auth.usermanagement.application.services.mapper.UserMapper;
+import com.auth.usermanagement.domain.model.user.UserDomain;
+import com.common.shared.domain.model.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeo entidad → dominio → respuesta de un usuario según cuántos roles y
+ * permisos por rol arrastra (el fan-out que se paga en cada lectura).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx512m"})
+@State(Scope.Benchmark)
+public class UserMapperBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int roles;
+
+    @Param({"5", "25"})
+    private int permissionsPerRole;
+
+    private User entity;
+    private UserDomain domain;
+
+    @Setup
+    public void setup() {
+        Module module = new Module();
+        module.setModuleId(UUID.randomUUID());
+        module.setName("Usuarios");
+        module.setStatus(Status.ACTIVO);
+
+        Set<Role> roleEntities = new HashSet<>();
+        for (int r = 0; r < roles; r++) {
+            Role role = new Role();
+            role.setRoleId(UUID.randomUUID());
+            role.setName("ROLE_BENCH_" + r);
+            role.setDescription("Rol de benchmark " + r);
+            role.setStatus(Status.ACTIVO);
+            for (int p = 0; p < permissionsPerRole; p++) {
+                Permission permission = new Permission();
+                permission.setPermissionId(UUID.randomUUID());
+                permission.setName("PERM_" + r + "_" + p);
+                permission.setDescription("Permiso de benchmark " + p + " del rol " + r);
+                permission.setModule(module);
+                permission.setStatus(Status.ACTIVO);
+                role.getPermissions().add(permission);
+            }
+            roleEntities.add(role);
+        }
+
+        entity = new User();
+        entity.setUserId(UUID.randomUUID());
+        entity.setName("Bench");
+        entity.setLastName("User");
+        entity.setEmail("bench.user@example.com");
+        entity.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3b5cZy1a3LzS3Xo1lFz3GxK");
+        entity.setEnabled(true);
+        entity.setAccountNonExpired(true);
+        entity.setAccountNonLocked(true);
+        entity.setCredentialsNonExpired(true);
+        entity.setStatus(Status.ACTIVO);
+        entity.setRoles(roleEntities);
+
+        domain = UserJPAMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public UserDomain toDomain() {
+        return UserJPAMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public UserResponse toResponse() {
+        return UserMapper.toResponse(domain);
+    }
+
+    @Benchmark
+    public UserResponse entityToResponse() {
+        return UserMapper.toResponse(UserJPAMapper.toDomain(entity));
+    }
+}
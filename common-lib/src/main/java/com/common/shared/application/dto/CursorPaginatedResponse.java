@@ -0,0 +1,49 @@
+package com.common.shared.application.dto;
+
+import com.common.shared.application.util.CursorCodec;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página por cursor (keyset). A diferencia de {@link PaginatedResponse} no
+ * incluye totales: no hay COUNT y el coste no crece con la profundidad.
+ * {@code nextCursor} es opaco y se envía tal cual para pedir la siguiente
+ * página; es {@code null} en la última.
+ *
+ * Las consultas ordenan por (clave, id) y continúan con una comparación de
+ * fila, {@code (clave, id) > (:clave, :id)} ({@code <} si el orden es
+ * descendente), que PostgreSQL resuelve como rango sobre el índice de esas dos
+ * columnas. La primera página usa una consulta aparte, sin cursor: un
+ * {@code :x IS NULL OR ...} impediría usar el índice como rango.
+ */
+public record CursorPaginatedResponse<T>(
+        List<T> content,
+        int pageSize,
+        String nextCursor,
+        boolean hasNext) {
+
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Construye la página a partir de hasta {@code size + 1} filas: la fila extra
+     * solo indica que hay más y no se devuelve.
+     *
+     * @param positionOf posición (clave de orden, id) de una fila, para el cursor
+     */
+    public static <E> CursorPaginatedResponse<E> of(List<E> rows, int size,
+            Function<? super E, CursorPosition> positionOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> content = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(positionOf.apply(content.get(content.size() - 1))) : null;
+        return new CursorPaginatedResponse<>(content, size, nextCursor, hasNext);
+    }
+
+    public static int normalizeSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public <R> CursorPaginatedResponse<R> map(Function<? super T, ? extends R> mapper) {
+        return new CursorPaginatedResponse<>(content.stream().<R>map(mapper).toList(), pageSize, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,11 @@
+package com.common.shared.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Posición de un cursor de paginación: clave de orden y, para desempatar filas
+ * con la misma clave, el id.
+ */
+public record CursorPosition(LocalDateTime sortKey, UUID id) {
+}
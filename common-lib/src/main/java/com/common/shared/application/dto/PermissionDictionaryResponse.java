@@ -0,0 +1,12 @@
+package com.common.shared.application.dto;
+
+import java.util.List;
+
+/**
+ * Diccionario de permisos publicado por user-management: la posición de cada
+ * nombre es el índice usado en el claim compacto del JWT.
+ */
+public record PermissionDictionaryResponse(
+        String version,
+        List<String> permissions) {
+}
@@ -0,0 +1,39 @@
+package com.common.shared.application.dto;
+
+import java.time.Instant;
+
+/**
+ * Cambio en user-management que invalida credenciales o autoridades ya
+ * cacheadas en otros servicios. {@code email} y {@code previousEmail} son
+ * null en los cambios que afectan a todos los usuarios (roles y permisos).
+ */
+public record UserChangeEvent(
+        Type type,
+        String userId,
+        String email,
+        String previousEmail,
+        Instant occurredAt) {
+
+    public enum Type {
+        UPDATED,
+        // Cambio de contraseña: además de la caché se revocan las sesiones de refresh
+        CREDENTIALS_CHANGED,
+        ACTIVATED,
+        DEACTIVATED,
+        ROLES_CHANGED,
+        // Definición de un rol o permiso: afecta a todos los usuarios que lo tienen
+        AUTHORIZATION_CHANGED
+    }
+
+    public static UserChangeEvent forUser(Type type, String userId, String email, String previousEmail) {
+        return new UserChangeEvent(type, userId, email, previousEmail, Instant.now());
+    }
+
+    public static UserChangeEvent authorizationChanged() {
+        return new UserChangeEvent(Type.AUTHORIZATION_CHANGED, null, null, null, Instant.now());
+    }
+
+    public boolean affectsAllUsers() {
+        return type == Type.AUTHORIZATION_CHANGED;
+    }
+}
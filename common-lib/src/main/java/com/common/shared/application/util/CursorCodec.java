@@ -0,0 +1,49 @@
+package com.common.shared.application.util;
+
+import com.common.shared.application.dto.CursorPosition;
+import com.common.shared.domain.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Serializa {@link CursorPosition} como token opaco base64url
+ * ({@code v1|clave|id}). El prefijo de versión permite cambiar el formato sin
+ * aceptar por error cursores antiguos.
+ */
+public final class CursorCodec {
+
+    private static final String VERSION = "v1";
+    private static final char SEPARATOR = '|';
+
+    private CursorCodec() {
+    }
+
+    public static String encode(CursorPosition position) {
+        String raw = VERSION + SEPARATOR + position.sortKey() + SEPARATOR + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return la posición, o {@code null} si no se envió cursor (primera página)
+     * @throws InvalidCursorException si el token no es un cursor válido
+     */
+    public static CursorPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidCursorException("Cursor de paginación inválido");
+            }
+            return new CursorPosition(LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("Cursor de paginación inválido");
+        }
+    }
+}
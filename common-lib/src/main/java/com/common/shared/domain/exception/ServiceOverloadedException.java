@@ -0,0 +1,19 @@
+package com.common.shared.domain.exception;
+
+/**
+ * El servicio rechaza la petición por saturación (cola llena o espera
+ * excedida). Se responde 503 con Retry-After para que el cliente reintente.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
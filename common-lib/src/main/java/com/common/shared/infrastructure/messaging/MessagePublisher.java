@@ -2,6 +2,7 @@ package com.common.shared.infrastructure.messaging;
 
 import com.common.shared.application.dto.AuditMessage;
 import com.common.shared.application.dto.ErrorLog;
+import com.common.shared.application.dto.UserChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.stream.function.StreamBridge;
@@ -33,4 +34,12 @@ public class MessagePublisher {
             log.error("Failed to send error log, is RabbitMQ running? Error: {}", e.getMessage());
         }
     }
+
+    public void sendUserChange(UserChangeEvent event) {
+        try {
+            streamBridge.send("userChange-out-0", event);
+        } catch (Exception e) {
+            log.error("Failed to send user change event, is RabbitMQ running? Error: {}", e.getMessage());
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.common.shared.domain.exception.ErrorResponse;
 import com.common.shared.domain.exception.PersistenceException;
 
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -20,6 +21,8 @@ import com.common.shared.domain.exception.ModuleNotFoundException;
 import com.common.shared.domain.exception.UserAlreadyExistsException;
 import com.common.shared.domain.exception.RoleAlreadyExistsException;
 import com.common.shared.domain.exception.PermissionAlreadyExistsException;
+import com.common.shared.domain.exception.ServiceOverloadedException;
+import com.common.shared.domain.exception.InvalidCursorException;
 
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
@@ -98,6 +101,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(dto);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        log.info("Cursor inválido: {}", ex.getMessage());
+        ErrorResponse dto = ErrorResponse.of(ex.getMessage(), ex.getClass().getSimpleName());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(dto);
+    }
+
     @ExceptionHandler({ UserNotFoundException.class, RoleNotFoundException.class, PermissionNotFoundException.class,
             ModuleNotFoundException.class })
     public ResponseEntity<ErrorResponse> handleNotFound(RuntimeException ex) {
@@ -128,6 +138,16 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(dto);
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(ServiceOverloadedException ex) {
+        // Sin stacktrace ni ErrorLog: es carga esperada, no un fallo
+        log.debug("Petición rechazada por saturación: {}", ex.getMessage());
+        ErrorResponse dto = ErrorResponse.of(ex.getMessage(), ex.getClass().getSimpleName());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(dto);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneric(Exception ex) {
         sendErrorLog(ex.getMessage(), java.util.Arrays.toString(ex.getStackTrace()), "CRITICAL");
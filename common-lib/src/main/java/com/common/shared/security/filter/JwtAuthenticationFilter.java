@@ -1,8 +1,12 @@
 package com.common.shared.security.filter;
 
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.AuthOutcome;
 import com.common.shared.security.service.AuthPrincipal;
+import com.common.shared.security.service.GrantedAuthorityCache;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
 import com.common.shared.security.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.common.shared.security.util.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,19 +15,13 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -31,79 +29,92 @@ import java.util.stream.Collectors;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final IdentityEnvelopeCodec identityEnvelopeCodec;
+    private final GrantedAuthorityCache authorityCache;
+    private final AuthEventLogger authEventLogger;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         String jwt = null;
-        String username = null;
-
-        System.out.println("Procesando request: " + request.getRequestURI());
-
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             jwt = authHeader.substring(7).trim();
-            System.out.println("Token recibido: " + jwt.substring(0, Math.min(10, jwt.length())) + "...");
-        } else {
-            System.out.println("No Authorization header or not Bearer token");
         }
 
-        if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                username = jwtUtil.extractUsername(jwt);
-                System.out.println("Username extraído: " + username);
+        // Sobre firmado por el gateway: evita volver a parsear el JWT en saltos internos
+        final String envelope = identityEnvelopeCodec.isEnabled()
+                ? request.getHeader(IdentityEnvelopeCodec.HEADER)
+                : null;
 
-                if (username != null && jwtUtil.validateToken(jwt)) {
-                    Claims claims = jwtUtil.extractAllClaims(jwt);
+        if (jwt == null && envelope == null) {
+            authEventLogger.record(AuthOutcome.MISSING_HEADER, request.getRequestURI(), null);
+        } else if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            authenticate(request, jwt, envelope);
+        }
 
-                    Object rolesObj = claims.get("roles");
-                    List<String> roles = new ArrayList<>();
-                    if (rolesObj instanceof List) {
-                        roles = ((List<?>) rolesObj).stream()
-                                .filter(Objects::nonNull)
-                                .map(Object::toString)
-                                .collect(Collectors.toList());
-                    }
+        filterChain.doFilter(request, response);
+    }
 
-                    Object permsObj = claims.get("permissions");
-                    List<String> permissions = new ArrayList<>();
-                    if (permsObj instanceof List) {
-                        permissions = ((List<?>) permsObj).stream()
-                                .filter(Objects::nonNull)
-                                .map(Object::toString)
-                                .collect(Collectors.toList());
-                    }
+    private void authenticate(HttpServletRequest request, String jwt, String envelope) {
+        VerifiedToken verified;
+        try {
+            verified = resolveVerifiedToken(request, jwt, envelope);
+        } catch (Exception e) {
+            authEventLogger.recordFailure(e, request.getRequestURI());
+            return;
+        }
 
-                    Set<String> normalized = new java.util.HashSet<>();
-                    roles.forEach(r -> normalized.add(r.startsWith("ROLE_") ? r : "ROLE_" + r));
-                    permissions.forEach(p -> normalized.add(p.startsWith("PERM_") ? p : "PERM_" + p));
+        String username = verified.subject();
+        if (username == null) {
+            authEventLogger.record(AuthOutcome.MALFORMED, request.getRequestURI(), null);
+            return;
+        }
 
-                    Collection<GrantedAuthority> authorities = new ArrayList<>();
-                    normalized.forEach(a -> authorities.add(new SimpleGrantedAuthority(a)));
+        // Lista inmutable compartida por todos los tokens con los mismos roles/permisos
+        List<GrantedAuthority> authorities = authorityCache.authoritiesFor(
+                verified.roles(), verified.permissions());
 
-                    String userIdClaim = null;
-                    try {
-                        Object uid = claims.get("userId");
-                        userIdClaim = uid == null ? null : uid.toString();
-                    } catch (Exception ignored) {
-                    }
+        AuthPrincipal principal = new AuthPrincipal(username, verified.userId());
 
-                    AuthPrincipal principal = new AuthPrincipal(username, userIdClaim);
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                principal, null, authorities);
+        authToken.setDetails(detailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        authEventLogger.record(AuthOutcome.SUCCESS, request.getRequestURI(), username);
+    }
 
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            principal, null, authorities);
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    System.out.println("Autenticación exitosa para: " + username);
-                } else {
-                    System.out.println("Token inválido o username nulo");
+    /**
+     * Reutiliza el token ya verificado por un filtro previo de la misma request
+     * (p.ej. el AuthenticationFilter del gateway). Si no existe, acepta el sobre
+     * de identidad del gateway y, como último recurso, verifica el JWT completo
+     * una única vez y lo deja disponible para los siguientes.
+     */
+    private VerifiedToken resolveVerifiedToken(HttpServletRequest request, String jwt, String envelope) {
+        Object attr = request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE);
+        if (attr instanceof VerifiedToken verified) {
+            return verified;
+        }
+        if (envelope != null) {
+            try {
+                VerifiedToken verified = identityEnvelopeCodec.decode(envelope);
+                request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
+                return verified;
+            } catch (RuntimeException e) {
+                // p.ej. rotación de clave en curso: el JWT sigue siendo la fuente de verdad
+                if (jwt == null) {
+                    throw e;
+                }
+                // Muestreado: un sobre viejo o manipulado repetido no debe inundar el log
+                authEventLogger.record(AuthOutcome.ENVELOPE_REJECTED, request.getRequestURI(), null);
+                if (log.isDebugEnabled()) {
+                    log.debug("Sobre de identidad rechazado ({}), se verifica el JWT", e.getMessage());
                 }
-            } catch (Exception e) {
-                System.out.println("Error procesando token: " + e.getMessage());
-                e.printStackTrace();
             }
         }
-
-        filterChain.doFilter(request, response);
+        VerifiedToken verified = jwtUtil.verify(jwt);
+        request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
+        return verified;
     }
 }
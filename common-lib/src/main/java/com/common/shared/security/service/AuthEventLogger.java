@@ -0,0 +1,60 @@
+package com.common.shared.security.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registro estructurado de resultados de autenticación.
+ *
+ * Mantiene un contador sin locks por {@link AuthOutcome}. Los fallos se
+ * registran en WARN muestreados (1 de cada N por resultado) y los éxitos y
+ * ausencias de header solo en DEBUG, comprobando el nivel antes de formatear.
+ * Nunca se registra el token ni fragmentos de él.
+ */
+@Component
+@Slf4j
+public class AuthEventLogger {
+
+    private final LongAdder[] counters = new LongAdder[AuthOutcome.values().length];
+    private final long failureSampleRate;
+
+    public AuthEventLogger(@Value("${jwt.auth-log.failure-sample-rate:10}") long failureSampleRate) {
+        this.failureSampleRate = Math.max(1, failureSampleRate);
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    public void record(AuthOutcome outcome, String path, String subject) {
+        LongAdder counter = counters[outcome.ordinal()];
+        counter.increment();
+
+        if (!outcome.isFailure()) {
+            if (log.isDebugEnabled()) {
+                log.debug("auth_event outcome={} path={} subject={}", outcome, path, subject);
+            }
+            return;
+        }
+
+        // sum() es aproximado bajo concurrencia: suficiente para muestrear
+        long total = counter.sum();
+        if ((total - 1) % failureSampleRate == 0) {
+            log.warn("auth_event outcome={} path={} total={} sample=1/{}", outcome, path, total, failureSampleRate);
+        }
+    }
+
+    public void recordFailure(Exception e, String path) {
+        AuthOutcome outcome = AuthOutcome.of(e);
+        record(outcome, path, null);
+        if (outcome == AuthOutcome.ERROR && log.isDebugEnabled()) {
+            log.debug("auth_event outcome=ERROR path={} detalle", path, e);
+        }
+    }
+
+    public long count(AuthOutcome outcome) {
+        return counters[outcome.ordinal()].sum();
+    }
+}
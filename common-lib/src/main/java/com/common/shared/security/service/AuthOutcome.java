@@ -0,0 +1,53 @@
+package com.common.shared.security.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.SecurityException;
+
+/**
+ * Resultado de autenticar una request con token.
+ */
+public enum AuthOutcome {
+    SUCCESS(false),
+    /** Sin header Authorization Bearer (ni sobre de identidad). */
+    MISSING_HEADER(false),
+    BAD_SIGNATURE(true),
+    EXPIRED(true),
+    MALFORMED(true),
+    /** Error inesperado al procesar un token. */
+    ERROR(true),
+    /** Sobre X-Auth-Identity rechazado con JWT presente: se verifica el JWT. */
+    ENVELOPE_REJECTED(true);
+
+    private final boolean failure;
+
+    AuthOutcome(boolean failure) {
+        this.failure = failure;
+    }
+
+    /**
+     * {@code true} si el cliente envió credenciales que no se pudieron aceptar.
+     */
+    public boolean isFailure() {
+        return failure;
+    }
+
+    /**
+     * Clasifica la excepción lanzada por JwtUtil o IdentityEnvelopeCodec.
+     */
+    public static AuthOutcome of(Exception e) {
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED;
+        }
+        // SignatureException es subclase de SecurityException
+        if (e instanceof SecurityException) {
+            return BAD_SIGNATURE;
+        }
+        if (e instanceof MalformedJwtException || e instanceof UnsupportedJwtException
+                || e instanceof IllegalArgumentException) {
+            return MALFORMED;
+        }
+        return ERROR;
+    }
+}
@@ -0,0 +1,77 @@
+package com.common.shared.security.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Autoridades normalizadas (ROLE_x / PERM_x) compartidas entre requests.
+ *
+ * Cada GrantedAuthority se crea una sola vez (interning) y la lista inmutable
+ * de un conjunto de roles+permisos se construye una vez y se reutiliza para
+ * todos los usuarios con esa misma combinación. Ambos mapas están acotados: al
+ * superar el máximo se vacían y se reconstruyen con las combinaciones activas.
+ */
+@Component
+public class GrantedAuthorityCache {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String PERM_PREFIX = "PERM_";
+
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, GrantedAuthority> interned = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<AuthoritySetKey, List<GrantedAuthority>> authoritySets = new ConcurrentHashMap<>();
+
+    public GrantedAuthorityCache(@Value("${jwt.authority-cache.max-entries:1024}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Devuelve la lista inmutable de autoridades para los roles y permisos del
+     * token. Las listas de entrada deben ser inmutables (las de VerifiedToken lo
+     * son): se usan directamente como clave, sin copiarlas.
+     */
+    public List<GrantedAuthority> authoritiesFor(List<String> roles, List<String> permissions) {
+        AuthoritySetKey key = new AuthoritySetKey(roles, permissions);
+        List<GrantedAuthority> cached = authoritySets.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        if (authoritySets.size() >= maxEntries) {
+            authoritySets.clear();
+        }
+        return authoritySets.computeIfAbsent(key, k -> build(k.roles(), k.permissions()));
+    }
+
+    private List<GrantedAuthority> build(List<String> roles, List<String> permissions) {
+        Set<GrantedAuthority> authorities = new LinkedHashSet<>();
+        for (String role : roles) {
+            authorities.add(intern(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role));
+        }
+        for (String permission : permissions) {
+            authorities.add(intern(permission.startsWith(PERM_PREFIX) ? permission : PERM_PREFIX + permission));
+        }
+        return List.copyOf(authorities);
+    }
+
+    private GrantedAuthority intern(String authority) {
+        GrantedAuthority existing = interned.get(authority);
+        if (existing != null) {
+            return existing;
+        }
+        if (interned.size() >= maxEntries * 4) {
+            interned.clear();
+        }
+        return interned.computeIfAbsent(authority, SimpleGrantedAuthority::new);
+    }
+
+    private record AuthoritySetKey(List<String> roles, List<String> permissions) {
+    }
+}
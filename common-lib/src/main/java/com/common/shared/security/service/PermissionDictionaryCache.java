@@ -0,0 +1,169 @@
+package com.common.shared.security.service;
+
+import com.common.shared.security.util.PermissionDictionary;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Diccionario de permisos de este servicio, para emitir y leer el claim
+ * compacto del JWT ({@code jwt.compact-permissions.*}).
+ *
+ * El diccionario vigente se recarga cada {@code refresh-interval}. Como es
+ * append-only, el vigente lee los tokens de cualquier versión anterior. Un
+ * token de una versión mayor (el emisor refrescó antes que este servicio) se
+ * rechaza al momento y dispara una recarga en segundo plano, como mucho una
+ * por segundo: la verificación nunca espera una llamada remota.
+ *
+ * Solo la primera carga, al emitir el primer token, se hace en el hilo de la
+ * request; las siguientes recargas van siempre en segundo plano.
+ */
+@Component
+@Slf4j
+public class PermissionDictionaryCache {
+
+    private static final long MIN_RELOAD_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final long refreshIntervalNanos;
+    private final PermissionDictionarySource source;
+
+    // ReentrantLock y no synchronized: la recarga hace I/O y no debe fijar hilos virtuales
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "permission-dictionary-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile PermissionDictionary current;
+    private volatile long nextRefresh = System.nanoTime();
+    private long lastAttempt = System.nanoTime() - MIN_RELOAD_NANOS;
+
+    public PermissionDictionaryCache(
+            @Value("${jwt.compact-permissions.enabled:false}") boolean enabled,
+            @Value("${jwt.compact-permissions.refresh-interval:30s}") Duration refreshInterval,
+            @Value("${jwt.compact-permissions.dictionary-url:}") String dictionaryUrl,
+            ObjectProvider<PermissionDictionarySource> localSource) {
+        this.enabled = enabled;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        PermissionDictionarySource local = localSource.getIfAvailable();
+        if (!enabled || local != null) {
+            this.source = local;
+        } else if (dictionaryUrl != null && !dictionaryUrl.isBlank()) {
+            this.source = new RemotePermissionDictionarySource(dictionaryUrl);
+        } else {
+            throw new IllegalStateException("jwt.compact-permissions.enabled requiere "
+                    + "'jwt.compact-permissions.dictionary-url' fuera de user-management");
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Diccionario vigente para emitir tokens, o {@code null} si la codificación
+     * compacta está deshabilitada o aún no se pudo cargar.
+     */
+    public PermissionDictionary current() {
+        if (!enabled) {
+            return null;
+        }
+        if (System.nanoTime() - nextRefresh >= 0) {
+            // Con un diccionario ya cargado se sigue emitiendo con él mientras se recarga
+            if (current == null) {
+                reload();
+            } else {
+                refreshAsync();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Diccionario capaz de leer un token de {@code version}, o {@code null} si
+     * aún no se conoce esa versión. En ese caso se pide una recarga en segundo
+     * plano y se responde sin esperarla: el cliente que reintenta la encuentra.
+     */
+    public PermissionDictionary forVersion(String version) {
+        if (!enabled || version == null) {
+            return null;
+        }
+        PermissionDictionary dictionary = current;
+        if (dictionary != null && dictionary.covers(version)) {
+            return dictionary;
+        }
+        refreshAsync();
+        return null;
+    }
+
+    @PreDestroy
+    void stopRefresher() {
+        refresher.shutdownNow();
+    }
+
+    /** Como mucho una recarga en curso; el resto de llamadas no hace nada. */
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    reload();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Contexto cerrándose
+            refreshing.set(false);
+        }
+    }
+
+    private void reload() {
+        reloadLock.lock();
+        try {
+            reloadLocked();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void reloadLocked() {
+        long now = System.nanoTime();
+        // Coalesce: otro hilo acaba de recargar mientras se esperaba el lock
+        if (now - lastAttempt < MIN_RELOAD_NANOS) {
+            return;
+        }
+        lastAttempt = now;
+        try {
+            List<String> names = source.loadPermissionNames();
+            PermissionDictionary loaded = PermissionDictionary.of(names);
+            // Nunca se retrocede: una respuesta de una réplica atrasada no debe
+            // dejar sin leer tokens ya aceptados
+            if (current == null || loaded.size() > current.size()) {
+                current = loaded;
+                log.info("Diccionario de permisos {} cargado ({} permisos)", loaded.version(), loaded.size());
+            }
+            nextRefresh = now + refreshIntervalNanos;
+        } catch (RuntimeException e) {
+            // Se sigue con el último diccionario; los tokens nuevos llevarán la lista completa
+            log.warn("No se pudo cargar el diccionario de permisos: {}", e.getMessage());
+            nextRefresh = now + MIN_RELOAD_NANOS;
+        }
+    }
+}
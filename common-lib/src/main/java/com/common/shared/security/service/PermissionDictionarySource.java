@@ -0,0 +1,13 @@
+package com.common.shared.security.service;
+
+import java.util.List;
+
+/**
+ * Origen de los nombres de permiso del diccionario compacto, en orden de
+ * índice (append-only). user-management lo implementa contra su base de datos;
+ * el resto de servicios usa {@link RemotePermissionDictionarySource}.
+ */
+public interface PermissionDictionarySource {
+
+    List<String> loadPermissionNames();
+}
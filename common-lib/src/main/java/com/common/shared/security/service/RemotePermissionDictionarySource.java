@@ -0,0 +1,40 @@
+package com.common.shared.security.service;
+
+import com.common.shared.application.dto.PermissionDictionaryResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Descarga el diccionario de permisos desde el endpoint interno de
+ * user-management ({@code /internal/permissions/dictionary}).
+ */
+public class RemotePermissionDictionarySource implements PermissionDictionarySource {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final RestClient restClient;
+    private final String url;
+
+    public RemotePermissionDictionarySource(String url) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(TIMEOUT);
+        requestFactory.setReadTimeout(TIMEOUT);
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.url = url;
+    }
+
+    @Override
+    public List<String> loadPermissionNames() {
+        PermissionDictionaryResponse response = restClient.get()
+                .uri(url)
+                .retrieve()
+                .body(PermissionDictionaryResponse.class);
+        if (response == null || response.permissions() == null) {
+            throw new IllegalStateException("Respuesta vacía del diccionario de permisos: " + url);
+        }
+        return response.permissions();
+    }
+}
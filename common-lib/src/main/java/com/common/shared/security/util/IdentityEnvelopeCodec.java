@@ -0,0 +1,181 @@
+package com.common.shared.security.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Sobre de identidad firmado que el gateway envía en {@code X-Auth-Identity}
+ * tras verificar el JWT, para que los servicios internos no vuelvan a parsearlo.
+ *
+ * Formato: {@code base64url(payload).base64url(HMAC-SHA256(payload))}, donde el
+ * payload son los campos separados por el carácter US (0x1F) y las listas por
+ * RS (0x1E): versión, exp (epoch s), subject, userId, roles, permisos.
+ *
+ * La clave es distinta de {@code jwt.secret}: un sobre no sirve como JWT ni al
+ * revés. Los errores usan las mismas excepciones de jjwt que {@link JwtUtil}.
+ */
+@Component
+public class IdentityEnvelopeCodec {
+
+    public static final String HEADER = "X-Auth-Identity";
+
+    private static final String VERSION = "1";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char ITEM_SEPARATOR = '\u001E';
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final Mac prototype;
+
+    public IdentityEnvelopeCodec(
+            @Value("${jwt.identity-envelope.enabled:false}") boolean enabled,
+            @Value("${jwt.identity-envelope.secret:}") String secret) {
+        this.enabled = enabled;
+        if (!enabled) {
+            this.prototype = null;
+            return;
+        }
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
+            throw new IllegalStateException("La propiedad 'jwt.identity-envelope.secret' debe tener al menos 32 bytes "
+                    + "cuando jwt.identity-envelope.enabled=true");
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            this.prototype = mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudo inicializar " + ALGORITHM, e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String encode(VerifiedToken token) {
+        StringBuilder payload = new StringBuilder(128)
+                .append(VERSION).append(FIELD_SEPARATOR)
+                .append(token.expiresAt().getEpochSecond()).append(FIELD_SEPARATOR)
+                .append(checked(token.subject())).append(FIELD_SEPARATOR)
+                .append(checked(token.userId())).append(FIELD_SEPARATOR);
+        appendList(payload, token.roles());
+        payload.append(FIELD_SEPARATOR);
+        appendList(payload, token.permissions());
+
+        byte[] bytes = payload.toString().getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(bytes) + '.' + ENCODER.encodeToString(newMac().doFinal(bytes));
+    }
+
+    /**
+     * Valida la firma y la expiración del sobre.
+     *
+     * @throws SignatureException   si la firma no corresponde
+     * @throws ExpiredJwtException  si el sobre expiró
+     * @throws MalformedJwtException si el formato es inválido
+     */
+    public VerifiedToken decode(String envelope) {
+        int dot = envelope.indexOf('.');
+        if (dot <= 0 || dot != envelope.lastIndexOf('.')) {
+            throw new MalformedJwtException("Sobre de identidad mal formado");
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = DECODER.decode(envelope.substring(0, dot));
+            signature = DECODER.decode(envelope.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Sobre de identidad mal formado", e);
+        }
+
+        // Comparación en tiempo constante
+        if (!MessageDigest.isEqual(newMac().doFinal(payload), signature)) {
+            throw new SignatureException("Firma del sobre de identidad inválida");
+        }
+
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split(String.valueOf(FIELD_SEPARATOR), -1);
+        if (fields.length != 6 || !VERSION.equals(fields[0])) {
+            throw new MalformedJwtException("Versión o campos del sobre de identidad inválidos");
+        }
+
+        Instant expiresAt;
+        try {
+            expiresAt = Instant.ofEpochSecond(Long.parseLong(fields[1]));
+        } catch (NumberFormatException e) {
+            throw new MalformedJwtException("Expiración del sobre de identidad inválida", e);
+        }
+        if (!expiresAt.isAfter(Instant.now())) {
+            throw new ExpiredJwtException(null, null, "Sobre de identidad expirado");
+        }
+
+        return new VerifiedToken(
+                emptyToNull(fields[2]),
+                emptyToNull(fields[3]),
+                splitList(fields[4]),
+                splitList(fields[5]),
+                expiresAt);
+    }
+
+    // Mac no es thread-safe; clonar el prototipo ya inicializado evita repetir init()
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " no soporta clone()", e);
+        }
+    }
+
+    private static void appendList(StringBuilder sb, List<String> values) {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(ITEM_SEPARATOR);
+            }
+            sb.append(checked(values.get(i)));
+        }
+    }
+
+    private static List<String> splitList(String value) {
+        if (value.isEmpty()) {
+            return List.of();
+        }
+        List<String> items = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == ITEM_SEPARATOR) {
+                items.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return items;
+    }
+
+    private static String checked(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(FIELD_SEPARATOR) >= 0 || value.indexOf(ITEM_SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("Valor con caracteres de control no admitido en el sobre de identidad");
+        }
+        return value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -1,27 +1,51 @@
 package com.common.shared.security.util;
 
+import com.common.shared.security.service.PermissionDictionaryCache;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.common.shared.application.dto.UserSecurityResponse;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
 @Component
 public class JwtUtil {
 
-    private final Key key;
+    // Claim compacto de permisos: versión del diccionario + bitset en base64url
+    public static final String PERMISSION_DICTIONARY_CLAIM = "pdv";
+    public static final String PERMISSION_BITS_CLAIM = "pbits";
+
+    private final SecretKey key;
 
     private final long expirationMs;
 
+    // El parser es inmutable y thread-safe: se construye una sola vez
+    private final JwtParser parser;
+
+    // null fuera de Spring: siempre se emite y se acepta solo la lista completa
+    private final PermissionDictionaryCache permissionDictionaries;
+
+    public JwtUtil(String secret, long expirationMs) {
+        this(secret, expirationMs, null);
+    }
+
+    @Autowired
     public JwtUtil(
             @Value("${jwt.secret:default_change_this_secret_2026_please_make_it_long_enough_32123}") String secret,
-            @Value("${jwt.expiration-ms:3600000}") long expirationMs) {
+            @Value("${jwt.expiration-ms:3600000}") long expirationMs,
+            PermissionDictionaryCache permissionDictionaries) {
         // Validación clara si la clave es insuficiente para HMAC
         if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < 32) {
             throw new IllegalStateException("La propiedad 'jwt.secret' debe existir y tener al menos 32 bytes. " +
@@ -29,30 +53,91 @@ public class JwtUtil {
         }
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expirationMs = expirationMs;
+        this.permissionDictionaries = permissionDictionaries;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateToken(UserSecurityResponse user) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expirationMs);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .subject(user.email())
                 .claim("roles", user.roles())
-                .claim("permissions", user.permissions())
                 .claim("userId", user.userId())
                 .claim("email", user.email())
                 .issuedAt(now)
-                .expiration(exp)
-                .signWith(key)
-                .compact();
+                .expiration(exp);
+        permissionClaims(builder, user.permissions());
+        return builder.signWith(key).compact();
+    }
+
+    /**
+     * Con {@code jwt.compact-permissions.enabled} los permisos viajan como
+     * bitset sobre el diccionario vigente; si no hay diccionario o algún permiso
+     * aún no figura en él, se usa la lista completa.
+     */
+    private void permissionClaims(JwtBuilder builder, List<String> permissions) {
+        PermissionDictionary dictionary = permissionDictionaries == null || permissions == null
+                || permissions.isEmpty() ? null : permissionDictionaries.current();
+        String bits = dictionary == null ? null : dictionary.encode(permissions);
+        if (bits == null) {
+            builder.claim("permissions", permissions);
+            return;
+        }
+        builder.claim(PERMISSION_DICTIONARY_CLAIM, dictionary.version())
+                .claim(PERMISSION_BITS_CLAIM, bits);
+    }
+
+    /**
+     * Verifica firma y expiración del token una sola vez y devuelve sus claims
+     * ya tipados.
+     *
+     * @param token JWT compacto (sin el prefijo "Bearer ")
+     * @return VerifiedToken inmutable
+     * @throws JwtException si la firma es inválida, el token expiró o está mal
+     *                      formado
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        Date exp = claims.getExpiration();
+        if (exp == null) {
+            throw new MalformedJwtException("El token no contiene fecha de expiración");
+        }
+
+        Object uid = claims.get("userId");
+        return new VerifiedToken(
+                claims.getSubject(),
+                uid == null ? null : uid.toString(),
+                toStringList(claims.get("roles")),
+                permissions(claims),
+                exp.toInstant());
+    }
+
+    private List<String> permissions(Claims claims) {
+        Object bits = claims.get(PERMISSION_BITS_CLAIM);
+        if (bits == null) {
+            return toStringList(claims.get("permissions"));
+        }
+        Object version = claims.get(PERMISSION_DICTIONARY_CLAIM);
+        PermissionDictionary dictionary = permissionDictionaries == null || version == null
+                ? null : permissionDictionaries.forVersion(version.toString());
+        if (dictionary == null) {
+            // Versión aún no cargada aquí (se recarga en segundo plano): el cliente reintenta
+            throw new MalformedJwtException("Diccionario de permisos desconocido: " + version);
+        }
+        return dictionary.decode(bits.toString());
+    }
+
+    public long getExpirationMs() {
+        return expirationMs;
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith((javax.crypto.SecretKey) key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public String extractUsername(String token) {
@@ -61,10 +146,23 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Claims claims = extractAllClaims(token);
-            return !claims.getExpiration().before(new Date());
+            verify(token);
+            return true;
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private static List<String> toStringList(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+        List<String> result = new ArrayList<>(list.size());
+        for (Object item : list) {
+            if (item != null) {
+                result.add(item.toString());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package com.common.shared.security.util;
+
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Diccionario inmutable nombre de permiso → índice para el claim compacto del
+ * JWT: en lugar de la lista de nombres el token lleva un bitset en base64url.
+ *
+ * La posición de cada nombre es su índice y el origen (permission_dictionary en
+ * user-management) solo añade nombres al final. Por eso la versión es el tamaño:
+ * un diccionario de versión N decodifica cualquier token emitido con una versión
+ * menor o igual, sin conservar versiones anteriores.
+ */
+public final class PermissionDictionary {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    // Combinaciones de permisos decodificadas que se conservan (una por perfil de usuario)
+    private static final int MAX_DECODED = 512;
+
+    private final String version;
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+    private final ConcurrentHashMap<String, List<String>> decoded = new ConcurrentHashMap<>();
+
+    private PermissionDictionary(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+        this.version = String.valueOf(names.length);
+    }
+
+    /**
+     * @param indexedNames nombres en orden de índice, tal como los publica
+     *                     {@code /internal/permissions/dictionary}
+     */
+    public static PermissionDictionary of(List<String> indexedNames) {
+        for (String name : indexedNames) {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Nombre de permiso vacío en el diccionario");
+            }
+        }
+        return new PermissionDictionary(indexedNames.toArray(String[]::new));
+    }
+
+    /**
+     * {@code true} si este diccionario decodifica tokens de {@code version}: al
+     * ser append-only basta con que no sea más pequeño.
+     */
+    public boolean covers(String version) {
+        try {
+            return Integer.parseInt(version) <= names.length;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public List<String> names() {
+        return List.of(names);
+    }
+
+    /**
+     * Codifica los permisos como bitset.
+     *
+     * @return el bitset en base64url, o {@code null} si algún permiso no está en
+     *         el diccionario (el emisor debe usar entonces la lista completa)
+     */
+    public String encode(List<String> permissions) {
+        BitSet bits = new BitSet(names.length);
+        for (String permission : permissions) {
+            Integer index = indexes.get(permission);
+            if (index == null) {
+                return null;
+            }
+            bits.set(index);
+        }
+        return ENCODER.encodeToString(bits.toByteArray());
+    }
+
+    /**
+     * Decodifica un bitset emitido con esta versión. Las listas resultantes son
+     * inmutables y se comparten entre tokens con los mismos permisos.
+     *
+     * @throws MalformedJwtException si el bitset no es base64url válido o
+     *                               referencia índices fuera del diccionario
+     */
+    public List<String> decode(String encoded) {
+        List<String> cached = decoded.get(encoded);
+        if (cached != null) {
+            return cached;
+        }
+
+        BitSet bits;
+        try {
+            bits = BitSet.valueOf(DECODER.decode(encoded));
+        } catch (IllegalArgumentException e) {
+            throw new MalformedJwtException("Claim de permisos compacto mal formado", e);
+        }
+        if (bits.length() > names.length) {
+            throw new MalformedJwtException("Claim de permisos fuera del diccionario " + version);
+        }
+
+        List<String> permissions = new ArrayList<>(bits.cardinality());
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            permissions.add(names[i]);
+        }
+
+        if (decoded.size() >= MAX_DECODED) {
+            decoded.clear();
+        }
+        List<String> immutable = List.copyOf(permissions);
+        List<String> existing = decoded.putIfAbsent(encoded, immutable);
+        return existing != null ? existing : immutable;
+    }
+}
@@ -0,0 +1,30 @@
+package com.common.shared.security.util;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Resultado inmutable de verificar un JWT una sola vez: firma validada,
+ * expiración comprobada y claims ya convertidos a tipos concretos.
+ *
+ * Los filtros lo comparten como atributo de la request para no volver a
+ * parsear el mismo token dentro del mismo servicio.
+ */
+public record VerifiedToken(
+        String subject,
+        String userId,
+        List<String> roles,
+        List<String> permissions,
+        Instant expiresAt) {
+
+    public static final String REQUEST_ATTRIBUTE = VerifiedToken.class.getName();
+
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+        permissions = permissions == null ? List.of() : List.copyOf(permissions);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
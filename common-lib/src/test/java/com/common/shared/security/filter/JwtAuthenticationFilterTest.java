@@ -0,0 +1,125 @@
+package com.common.shared.security.filter;
+
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.AuthOutcome;
+import com.common.shared.security.service.AuthPrincipal;
+import com.common.shared.security.service.GrantedAuthorityCache;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.JwtUtil;
+import com.common.shared.security.util.VerifiedToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Caminos del sobre X-Auth-Identity en el filtro de los servicios internos.
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String JWT_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final String ENVELOPE_SECRET = "6B5970337336763979244226452948404D635166546A576E5A7234753778217A";
+
+    private final JwtUtil jwtUtil = new JwtUtil(JWT_SECRET, 3_600_000L);
+    private final IdentityEnvelopeCodec enabledCodec = new IdentityEnvelopeCodec(true, ENVELOPE_SECRET);
+    private final AuthEventLogger authEventLogger = new AuthEventLogger(1);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromEnvelopeWithoutJwt() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(IdentityEnvelopeCodec.HEADER, enabledCodec.encode(envelopeToken()));
+
+        filter(enabledCodec).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        assertThat(((AuthPrincipal) authentication.getPrincipal()).getUserId()).isEqualTo("u-envelope");
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .contains("ROLE_ADMIN", "PERM_READ_PRIVILEGES");
+        assertThat(authEventLogger.count(AuthOutcome.SUCCESS)).isEqualTo(1);
+    }
+
+    @Test
+    void missingJwtAndEnvelopeIsRecordedAsMissingHeader() throws Exception {
+        filter(enabledCodec).doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(authEventLogger.count(AuthOutcome.MISSING_HEADER)).isEqualTo(1);
+    }
+
+    @Test
+    void disabledCodecIgnoresEnvelopeHeader() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(IdentityEnvelopeCodec.HEADER, enabledCodec.encode(envelopeToken()));
+
+        filter(new IdentityEnvelopeCodec(false, "")).doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Sin codec el sobre no es credencial: la request cuenta como sin header
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(authEventLogger.count(AuthOutcome.MISSING_HEADER)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedEnvelopeFallsBackToJwt() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(user()));
+        request.addHeader(IdentityEnvelopeCodec.HEADER, new IdentityEnvelopeCodec(true, JWT_SECRET)
+                .encode(envelopeToken()));
+
+        filter(enabledCodec).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isNotNull();
+        // Identidad del JWT, no la del sobre rechazado
+        assertThat(((AuthPrincipal) authentication.getPrincipal()).getUserId()).isEqualTo("u-jwt");
+        assertThat(authEventLogger.count(AuthOutcome.ENVELOPE_REJECTED)).isEqualTo(1);
+        assertThat(authEventLogger.count(AuthOutcome.SUCCESS)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectedEnvelopeWithoutJwtLeavesRequestAnonymous() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader(IdentityEnvelopeCodec.HEADER, new IdentityEnvelopeCodec(true, JWT_SECRET)
+                .encode(envelopeToken()));
+
+        filter(enabledCodec).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(authEventLogger.count(AuthOutcome.BAD_SIGNATURE)).isEqualTo(1);
+    }
+
+    private JwtAuthenticationFilter filter(IdentityEnvelopeCodec codec) {
+        return new JwtAuthenticationFilter(jwtUtil, codec, new GrantedAuthorityCache(16), authEventLogger);
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/users");
+    }
+
+    private static VerifiedToken envelopeToken() {
+        return new VerifiedToken("ana@example.com", "u-envelope", List.of("ROLE_ADMIN"),
+                List.of("READ_PRIVILEGES"), Instant.now().plus(5, ChronoUnit.MINUTES));
+    }
+
+    private static UserSecurityResponse user() {
+        return new UserSecurityResponse("u-jwt", "ana@example.com", "hash", true,
+                List.of("ROLE_USER"), List.of("READ_PRIVILEGES"));
+    }
+}
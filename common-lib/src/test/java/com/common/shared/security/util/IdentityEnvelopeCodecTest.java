@@ -0,0 +1,160 @@
+package com.common.shared.security.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdentityEnvelopeCodecTest {
+
+    private static final String SECRET = "6B5970337336763979244226452948404D635166546A576E5A7234753778217A";
+    private static final String OTHER_SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final IdentityEnvelopeCodec codec = new IdentityEnvelopeCodec(true, SECRET);
+
+    @Test
+    void roundTripKeepsAllClaims() {
+        VerifiedToken token = token("ana@example.com", "3f1c0c1e-7c1a-4a5e-9a57-0c3b9b0e5a11",
+                List.of("ROLE_ADMIN", "ROLE_AUDITOR"), List.of("READ_PRIVILEGES", "WRITE_PRIVILEGES"));
+
+        VerifiedToken decoded = codec.decode(codec.encode(token));
+
+        assertThat(decoded).isEqualTo(token);
+    }
+
+    @Test
+    void roundTripKeepsNullsAndEmptyLists() {
+        VerifiedToken token = token(null, null, List.of(), List.of());
+
+        VerifiedToken decoded = codec.decode(codec.encode(token));
+
+        assertThat(decoded.subject()).isNull();
+        assertThat(decoded.userId()).isNull();
+        assertThat(decoded.roles()).isEmpty();
+        assertThat(decoded.permissions()).isEmpty();
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String envelope = codec.encode(token("ana@example.com", "u-1", List.of("ROLE_USER"), List.of()));
+        int dot = envelope.indexOf('.');
+        String payload = new String(Base64.getUrlDecoder().decode(envelope.substring(0, dot)), StandardCharsets.UTF_8);
+        String escalated = payload.replace("ROLE_USER", "ROLE_ADMIN");
+        String forged = encode(escalated) + envelope.substring(dot);
+
+        assertThatThrownBy(() -> codec.decode(forged)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsTamperedMac() {
+        String envelope = codec.encode(token("ana@example.com", "u-1", List.of("ROLE_USER"), List.of()));
+        // Un carácter intermedio: el último puede caer en bits de relleno que el decoder ignora
+        int i = envelope.indexOf('.') + 10;
+        char flipped = envelope.charAt(i) == 'A' ? 'B' : 'A';
+        String tampered = envelope.substring(0, i) + flipped + envelope.substring(i + 1);
+
+        assertThatThrownBy(() -> codec.decode(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsEnvelopeSignedWithAnotherKey() {
+        IdentityEnvelopeCodec other = new IdentityEnvelopeCodec(true, OTHER_SECRET);
+        String envelope = other.encode(token("ana@example.com", "u-1", List.of("ROLE_USER"), List.of()));
+
+        assertThatThrownBy(() -> codec.decode(envelope)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void rejectsExpiredEnvelope() {
+        VerifiedToken expired = new VerifiedToken("ana@example.com", "u-1", List.of(), List.of(),
+                Instant.now().minusSeconds(5));
+        String envelope = codec.encode(expired);
+
+        assertThatThrownBy(() -> codec.decode(envelope)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void rejectsMalformedEnvelopes() {
+        String valid = codec.encode(token("ana@example.com", "u-1", List.of(), List.of()));
+
+        assertThatThrownBy(() -> codec.decode("sin-punto")).isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> codec.decode("." + valid)).isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> codec.decode(valid + ".extra")).isInstanceOf(MalformedJwtException.class);
+        assertThatThrownBy(() -> codec.decode("%%%." + valid.substring(valid.indexOf('.') + 1)))
+                .isInstanceOf(MalformedJwtException.class);
+    }
+
+    @Test
+    void rejectsSignedPayloadWithWrongFieldCount() throws GeneralSecurityException {
+        // Firma válida pero un campo de menos: no debe interpretarse desplazado
+        String payload = String.join("\u001F", "1", Long.toString(Instant.now().plusSeconds(60).getEpochSecond()),
+                "ana@example.com", "u-1", "ROLE_USER");
+        String envelope = signed(payload);
+
+        assertThatThrownBy(() -> codec.decode(envelope)).isInstanceOf(MalformedJwtException.class);
+    }
+
+    @Test
+    void refusesToEncodeFieldSeparatorInClaims() {
+        // Un subject con US desplazaría los campos: "ana<US>u-admin" se leería como otro userId
+        VerifiedToken token = token("ana\u001Fu-admin", "u-1", List.of(), List.of());
+
+        assertThatThrownBy(() -> codec.encode(token)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void refusesToEncodeItemSeparatorInLists() {
+        VerifiedToken inRole = token("ana@example.com", "u-1", List.of("ROLE_USER\u001EROLE_ADMIN"), List.of());
+        VerifiedToken inPermission = token("ana@example.com", "u-1", List.of(), List.of("READ\u001EWRITE"));
+        VerifiedToken inUserId = token("ana@example.com", "u-1\u001E", List.of(), List.of());
+
+        assertThatThrownBy(() -> codec.encode(inRole)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(inPermission)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> codec.encode(inUserId)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void disabledCodecNeedsNoSecret() {
+        IdentityEnvelopeCodec disabled = new IdentityEnvelopeCodec(false, "");
+
+        assertThat(disabled.isEnabled()).isFalse();
+    }
+
+    @Test
+    void enabledCodecRequiresLongSecret() {
+        assertThatThrownBy(() -> new IdentityEnvelopeCodec(true, "corto"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new IdentityEnvelopeCodec(true, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /** Firma {@code payload} con la misma clave y algoritmo que el codec. */
+    private static String signed(String payload) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return encode(payload) + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static VerifiedToken token(String subject, String userId, List<String> roles, List<String> permissions) {
+        // El sobre guarda la expiración en segundos
+        return new VerifiedToken(subject, userId, roles, permissions,
+                Instant.now().plus(5, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.SECONDS));
+    }
+}
@@ -0,0 +1,53 @@
+package com.auth.gatewayservice.client;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de conexiones que además mide cuánto espera cada request por una
+ * conexión libre. Es la señal que separa "upstream lento" de "pool agotado".
+ */
+class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final LongAdder acquires = new LongAdder();
+    private final LongAdder acquireWaitNanos = new LongAdder();
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return delegate.get(timeout);
+                } finally {
+                    acquires.increment();
+                    acquireWaitNanos.add(System.nanoTime() - start);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+
+    long acquires() {
+        return acquires.sum();
+    }
+
+    long acquireWaitNanos() {
+        return acquireWaitNanos.sum();
+    }
+}
@@ -0,0 +1,70 @@
+package com.auth.gatewayservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Fábrica usada por el proxy ({@code http()}) que delega en el cliente de la
+ * ruta según el host:puerto del upstream. Así cada ruta tiene su propio pool y
+ * un upstream lento solo agota sus propias conexiones.
+ */
+@Slf4j
+public class RoutingClientHttpRequestFactory implements ClientHttpRequestFactory, DisposableBean {
+
+    private final Map<String, UpstreamClient> clientsByAuthority = new HashMap<>();
+    private final Map<String, UpstreamClient> clientsByRoute = new LinkedHashMap<>();
+    private final UpstreamClient fallback;
+
+    public RoutingClientHttpRequestFactory(UpstreamClient fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Asocia un upstream (su host:puerto) al cliente de la ruta. Solo se usa
+     * durante la configuración, antes de atender requests.
+     */
+    public void register(URI upstream, UpstreamClient client) {
+        clientsByRoute.putIfAbsent(client.route(), client);
+        UpstreamClient previous = clientsByAuthority.putIfAbsent(upstream.getRawAuthority(), client);
+        if (previous != null && previous != client) {
+            throw new IllegalStateException("El upstream " + upstream.getRawAuthority()
+                    + " ya está asignado a la ruta " + previous.route());
+        }
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        UpstreamClient client = clientsByAuthority.getOrDefault(uri.getRawAuthority(), fallback);
+        return client.requestFactory().createRequest(uri, httpMethod);
+    }
+
+    public Collection<UpstreamClient> clients() {
+        return clientsByRoute.values();
+    }
+
+    @Override
+    public void destroy() {
+        for (UpstreamClient client : clientsByRoute.values()) {
+            closeQuietly(client);
+        }
+        closeQuietly(fallback);
+    }
+
+    private static void closeQuietly(UpstreamClient client) {
+        try {
+            client.close();
+        } catch (Exception e) {
+            log.warn("Error cerrando cliente upstream de la ruta {}", client.route(), e);
+        }
+    }
+}
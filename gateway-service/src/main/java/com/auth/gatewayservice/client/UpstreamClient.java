@@ -0,0 +1,129 @@
+package com.auth.gatewayservice.client;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+
+/**
+ * Cliente saliente de una ruta: su fábrica de requests y, si usa pool HTTP/1.1,
+ * el connection manager del que se leen las métricas.
+ *
+ * Las rutas h2c no tienen pool (el HttpClient del JDK multiplexa sobre una
+ * conexión), por lo que sus métricas de pool quedan en cero.
+ */
+public final class UpstreamClient {
+
+    private final String route;
+    private final ClientHttpRequestFactory requestFactory;
+    private final InstrumentedConnectionManager connectionManager;
+
+    private UpstreamClient(String route, ClientHttpRequestFactory requestFactory,
+            InstrumentedConnectionManager connectionManager) {
+        this.route = route;
+        this.requestFactory = requestFactory;
+        this.connectionManager = connectionManager;
+    }
+
+    /**
+     * Construye el cliente de una ruta según su configuración.
+     *
+     * @param executor executor del HttpClient del JDK para rutas h2c; {@code null}
+     *                 usa el executor por defecto del JDK
+     */
+    public static UpstreamClient create(String route, UpstreamClientProperties.ClientSettings settings,
+            Executor executor) {
+        if (settings.isH2c()) {
+            HttpClient.Builder builder = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(settings.getConnectTimeout())
+                    .followRedirects(HttpClient.Redirect.NEVER);
+            if (executor != null) {
+                builder.executor(executor);
+            }
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(builder.build());
+            factory.setReadTimeout(settings.getReadTimeout());
+            return new UpstreamClient(route, factory, null);
+        }
+
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager();
+        connectionManager.setMaxTotal(settings.getMaxConnections());
+        // El límite es por servicio: sus instancias comparten el pool completo
+        connectionManager.setDefaultMaxPerRoute(settings.getMaxConnections());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(settings.getConnectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(settings.getReadTimeout().toMillis()))
+                .build());
+
+        TimeValue keepAlive = TimeValue.ofMilliseconds(settings.getKeepAlive().toMillis());
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(
+                                Timeout.ofMilliseconds(settings.getAcquireTimeout().toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAlive)
+                .evictIdleConnections(keepAlive)
+                .disableRedirectHandling()
+                .disableAutomaticRetries()
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(settings.getReadTimeout());
+        return new UpstreamClient(route, factory, connectionManager);
+    }
+
+    public String route() {
+        return route;
+    }
+
+    public boolean pooled() {
+        return connectionManager != null;
+    }
+
+    ClientHttpRequestFactory requestFactory() {
+        return requestFactory;
+    }
+
+    /** Conexiones prestadas (en uso) en este momento. */
+    public int leased() {
+        return pooled() ? connectionManager.getTotalStats().getLeased() : 0;
+    }
+
+    /** Requests esperando una conexión libre. */
+    public int pending() {
+        return pooled() ? connectionManager.getTotalStats().getPending() : 0;
+    }
+
+    public int available() {
+        return pooled() ? connectionManager.getTotalStats().getAvailable() : 0;
+    }
+
+    public int max() {
+        return pooled() ? connectionManager.getTotalStats().getMax() : 0;
+    }
+
+    public long acquires() {
+        return pooled() ? connectionManager.acquires() : 0;
+    }
+
+    public long acquireWaitNanos() {
+        return pooled() ? connectionManager.acquireWaitNanos() : 0;
+    }
+
+    void close() throws Exception {
+        // HttpComponentsClientHttpRequestFactory cierra el HttpClient y su pool
+        if (requestFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.auth.gatewayservice.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Configuración del cliente saliente de cada ruta del gateway.
+ *
+ * Las claves de {@code routes} coinciden con las de {@code application.services}
+ * (auth-service, user-service, audit-service). Una ruta sin entrada usa los
+ * valores por defecto de {@link ClientSettings}.
+ */
+@ConfigurationProperties(prefix = "application.gateway.upstream")
+@Getter
+@Setter
+public class UpstreamClientProperties {
+
+    private Map<String, ClientSettings> routes = new LinkedHashMap<>();
+
+    public ClientSettings forRoute(String route) {
+        return routes.getOrDefault(route, new ClientSettings());
+    }
+
+    @Getter
+    @Setter
+    public static class ClientSettings {
+
+        /** Conexiones máximas hacia el upstream (pool propio por ruta). */
+        private int maxConnections = 50;
+
+        /** Tiempo máximo esperando una conexión libre del pool. */
+        private Duration acquireTimeout = Duration.ofSeconds(2);
+
+        /** Tiempo que una conexión ociosa se mantiene abierta para reutilizarse. */
+        private Duration keepAlive = Duration.ofSeconds(30);
+
+        private Duration connectTimeout = Duration.ofSeconds(5);
+
+        private Duration readTimeout = Duration.ofSeconds(30);
+
+        /** HTTP/2 sin TLS (h2c): una conexión multiplexada en lugar de un pool. */
+        private boolean h2c = false;
+    }
+}
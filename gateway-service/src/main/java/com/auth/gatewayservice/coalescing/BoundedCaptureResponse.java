@@ -0,0 +1,218 @@
+package com.auth.gatewayservice.coalescing;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Captura el cuerpo de la respuesta del líder mientras no supere el límite.
+ *
+ * Si el upstream declara un Content-Length mayor, o el cuerpo escrito lo
+ * rebasa, lo ya capturado se vuelca al cliente y el resto pasa directo sin
+ * copia: una respuesta grande nunca queda entera en memoria del gateway.
+ */
+public class BoundedCaptureResponse extends HttpServletResponseWrapper {
+
+    private final long limit;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private boolean passThrough;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public BoundedCaptureResponse(HttpServletResponse response, long limit) {
+        super(response);
+        this.limit = limit;
+    }
+
+    /** {@code true} si el cuerpo completo quedó capturado (no superó el límite). */
+    public boolean isCaptured() {
+        return !passThrough;
+    }
+
+    public byte[] getCapturedBody() {
+        flushWriter();
+        return passThrough ? new byte[0] : buffer.toByteArray();
+    }
+
+    /** Escribe al cliente lo capturado; sin efecto si ya se pasó a streaming. */
+    public void copyBodyToResponse() throws IOException {
+        flushWriter();
+        if (!passThrough && buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+            buffer = new ByteArrayOutputStream();
+        }
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        checkDeclaredLength(len);
+        super.setContentLength(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        checkDeclaredLength(len);
+        super.setContentLengthLong(len);
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        checkDeclaredLength(name, value);
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        checkDeclaredLength(name, value);
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() ya fue invocado en esta respuesta");
+        }
+        if (outputStream == null) {
+            outputStream = new CaptureOutputStream(getResponse().getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() ya fue invocado en esta respuesta");
+            }
+            outputStream = new CaptureOutputStream(getResponse().getOutputStream());
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        if (passThrough) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        discardCapture();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        discardCapture();
+    }
+
+    /**
+     * Tras un reset (p.ej. la ruta de error) lo capturado ya no es el cuerpo:
+     * se descarta y se vuelve a capturar desde cero.
+     */
+    private void discardCapture() {
+        if (writer != null) {
+            // Lo pendiente en el writer pertenece al cuerpo descartado
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, Charset.forName(getCharacterEncoding())));
+        }
+        buffer = new ByteArrayOutputStream();
+        passThrough = false;
+    }
+
+    private void checkDeclaredLength(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && value != null) {
+            try {
+                checkDeclaredLength(Long.parseLong(value.trim()));
+            } catch (NumberFormatException ignored) {
+                // Cabecera inválida: decide el tamaño real del cuerpo
+            }
+        }
+    }
+
+    private void checkDeclaredLength(long length) {
+        if (length > limit && !passThrough) {
+            try {
+                switchToPassThrough();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void switchToPassThrough() throws IOException {
+        passThrough = true;
+        if (buffer.size() > 0) {
+            buffer.writeTo(getResponse().getOutputStream());
+        }
+        buffer = null;
+    }
+
+    private void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    private class CaptureOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+
+        CaptureOutputStream(ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!passThrough && buffer.size() + 1 > limit) {
+                switchToPassThrough();
+            }
+            if (passThrough) {
+                target.write(b);
+            } else {
+                buffer.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!passThrough && buffer.size() + (long) len > limit) {
+                switchToPassThrough();
+            }
+            if (passThrough) {
+                target.write(b, off, len);
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (passThrough) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.auth.gatewayservice.coalescing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coalescing de GETs idénticos y concurrentes (opt-in).
+ */
+@ConfigurationProperties(prefix = "application.gateway.coalescing")
+@Getter
+@Setter
+public class CoalescingProperties {
+
+    private boolean enabled = false;
+
+    /** Patrones de ruta GET que pueden compartir respuesta. */
+    private List<String> paths = new ArrayList<>();
+
+    /** Espera máxima de una request por la respuesta en curso antes de ir al upstream. */
+    private Duration maxWait = Duration.ofSeconds(5);
+
+    /** Respuestas más grandes no se comparten. */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
@@ -1,36 +1,30 @@
 package com.auth.gatewayservice.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.auth.gatewayservice.loadbalancer.UpstreamPools;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.function.RouterFunction;
 import org.springframework.web.servlet.function.ServerResponse;
 
-import java.net.URI;
-
+import static com.auth.gatewayservice.loadbalancer.LoadBalancerFilterFunctions.loadBalance;
 import static org.springframework.cloud.gateway.server.mvc.handler.GatewayRouterFunctions.route;
 import static org.springframework.cloud.gateway.server.mvc.handler.HandlerFunctions.http;
 import static org.springframework.web.servlet.function.RequestPredicates.path;
-import static org.springframework.cloud.gateway.server.mvc.filter.BeforeFilterFunctions.uri;
 
 
 @Configuration
+@RequiredArgsConstructor
 public class GatewayRoutesConfig {
 
-    @Value("${application.services.auth-service.url:http://localhost:8081}")
-    private String authServiceUrl;
-
-    @Value("${application.services.user-service.url:http://localhost:8082}")
-    private String userServiceUrl;
-
-    @Value("${application.services.audit-service.url:http://localhost:8083}")
-    private String auditServiceUrl;
+    // Instancias de application.services.*.url (una o varias por servicio)
+    private final UpstreamPools upstreamPools;
 
     @Bean
     public RouterFunction<ServerResponse> authServiceRoute() {
         return route("auth_service")
                 .route(path("/api/auth/**"), http())
-                .before(uri(URI.create(authServiceUrl)))
+                .filter(loadBalance(upstreamPools.get("auth-service")))
                 .build();
     }
 
@@ -38,7 +32,7 @@ public class GatewayRoutesConfig {
     public RouterFunction<ServerResponse> userServiceRoute() {
         return route("user_service")
                 .route(path("/api/users/**"), http())
-                .before(uri(URI.create(userServiceUrl)))
+                .filter(loadBalance(upstreamPools.get("user-service")))
                 .build();
     }
 
@@ -46,7 +40,7 @@ public class GatewayRoutesConfig {
     public RouterFunction<ServerResponse> auditServiceRoute() {
         return route("audit_service")
                 .route(path("/api/audit-logs/**"), http())
-                .before(uri(URI.create(auditServiceUrl)))
+                .filter(loadBalance(upstreamPools.get("audit-service")))
                 .build();
     }
 }
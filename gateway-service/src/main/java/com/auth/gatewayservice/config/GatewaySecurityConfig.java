@@ -1,9 +1,13 @@
 package com.auth.gatewayservice.config;
 
+import com.auth.gatewayservice.security.PathAccess;
+import com.auth.gatewayservice.security.PathRules;
 import com.common.shared.security.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.security.autoconfigure.actuate.web.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -18,23 +22,44 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class GatewaySecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final PathRules pathRules;
 
-    public GatewaySecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public GatewaySecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter, PathRules pathRules) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.pathRules = pathRules;
     }
 
+    /**
+     * Endpoints de actuator (puerto de management, 9080). Boot aplica también
+     * aquí el springSecurityFilterChain, así que sin esta cadena el scrape de
+     * Prometheus caería en anyRequest().authenticated() sin forma de
+     * autenticarse. Solo health y prometheus quedan abiertos; el acceso al
+     * puerto se restringe por red, no con tokens.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
         return http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        // Permitir endpoints de autenticación y documentación
-                        .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/api-docs/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
+                        .anyRequest().denyAll())
+                .build();
+    }
 
-                        // Rutas internas deberían estar protegidas o no expuestas por el gateway
-                        .requestMatchers("/internal/**").denyAll()
+    @Bean
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        return http
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        // Mismas reglas que AuthenticationFilter (application.gateway.paths.*);
+                        // el acceso ya resuelto se reutiliza desde el atributo de la request
+                        .requestMatchers(request -> pathRules.resolve(request) == PathAccess.PUBLIC).permitAll()
+                        .requestMatchers(request -> pathRules.resolve(request) == PathAccess.DENIED).denyAll()
 
                         // Cualquier otra petición requiere autenticación
                         .anyRequest().authenticated())
@@ -0,0 +1,56 @@
+package com.auth.gatewayservice.config;
+
+import com.auth.gatewayservice.client.RoutingClientHttpRequestFactory;
+import com.auth.gatewayservice.client.UpstreamClient;
+import com.auth.gatewayservice.client.UpstreamClientProperties;
+import com.auth.gatewayservice.loadbalancer.LoadBalancerProperties;
+import com.auth.gatewayservice.loadbalancer.UpstreamInstance;
+import com.auth.gatewayservice.loadbalancer.UpstreamPool;
+import com.auth.gatewayservice.loadbalancer.UpstreamPools;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente saliente del proxy: un cliente independiente por ruta.
+ *
+ * Reemplaza la fábrica por defecto del gateway (ConditionalOnMissingBean). Con
+ * {@code spring.threads.virtual.enabled=true} las rutas h2c usan un executor de
+ * hilos virtuales; el pool de Apache HttpClient 5 usa locks de
+ * java.util.concurrent y tampoco fija el hilo virtual a su carrier.
+ */
+@Configuration
+@EnableConfigurationProperties({UpstreamClientProperties.class, LoadBalancerProperties.class})
+@Slf4j
+public class UpstreamClientConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public RoutingClientHttpRequestFactory gatewayClientHttpRequestFactory(
+            UpstreamClientProperties properties, UpstreamPools upstreamPools) {
+        Executor executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor() : null;
+
+        RoutingClientHttpRequestFactory factory = new RoutingClientHttpRequestFactory(
+                UpstreamClient.create("default", new UpstreamClientProperties.ClientSettings(), executor));
+
+        for (UpstreamPool pool : upstreamPools.all()) {
+            // Un cliente (y un pool) por servicio, compartido por todas sus instancias
+            UpstreamClientProperties.ClientSettings settings = properties.forRoute(pool.service());
+            UpstreamClient client = UpstreamClient.create(pool.service(), settings, executor);
+            for (UpstreamInstance instance : pool.instances()) {
+                factory.register(instance.uri(), client);
+            }
+            log.info("Cliente upstream para {} (pool={}, h2c={}, connect={}, read={})",
+                    pool.service(), settings.getMaxConnections(), settings.isH2c(),
+                    settings.getConnectTimeout(), settings.getReadTimeout());
+        }
+        return factory;
+    }
+}
@@ -1,7 +1,13 @@
 package com.auth.gatewayservice.filter;
 
-import com.common.shared.security.util.JwtUtil;
-import io.jsonwebtoken.Claims;
+import com.auth.gatewayservice.monitoring.RequestTimings;
+import com.auth.gatewayservice.security.PathAccess;
+import com.auth.gatewayservice.security.PathRules;
+import com.auth.gatewayservice.security.VerifiedTokenCache;
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.AuthOutcome;
+import com.common.shared.security.util.IdentityEnvelopeCodec;
+import com.common.shared.security.util.VerifiedToken;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -10,11 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
 
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 100)
@@ -22,15 +25,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AuthenticationFilter implements Filter {
 
-    private final JwtUtil jwtUtil;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final VerifiedTokenCache tokenCache;
+    // Reglas públicas/denegadas compartidas con GatewaySecurityConfig
+    private final PathRules pathRules;
+    private final IdentityEnvelopeCodec identityEnvelopeCodec;
+    private final AuthEventLogger authEventLogger;
 
-    // Endpoints públicos que no requieren token
-    private static final List<String> EXCLUDED_PATHS = Arrays.asList(
-            "/api/auth/**",
-            "/v3/api-docs/**",
-            "/swagger-ui/**",
-            "/swagger-ui.html");
+    // Cabeceras de identidad que solo el gateway puede fijar (se comparten, no se copian)
+    private static final String[] AUTH_HEADERS = {
+            "X-Auth-User-Id", "X-Auth-Roles", "X-Auth-Email", IdentityEnvelopeCodec.HEADER};
+    private static final String[] NO_AUTH_VALUES = new String[AUTH_HEADERS.length];
 
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
@@ -38,52 +42,87 @@ public class AuthenticationFilter implements Filter {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         HttpServletResponse response = (HttpServletResponse) servletResponse;
 
-        String path = request.getRequestURI();
+        long authStart = System.nanoTime();
+        PathAccess access = pathRules.resolve(request);
 
-        // Check if path is excluded
-        boolean isExcluded = EXCLUDED_PATHS.stream().anyMatch(p -> pathMatcher.match(p, path));
+        if (access == PathAccess.PUBLIC) {
+            authCompleted(request, authStart);
+            // Sin token: se eliminan las X-Auth-* que pudiera enviar el cliente
+            chain.doFilter(new HeaderOverlayRequest(request, AUTH_HEADERS, NO_AUTH_VALUES), response);
+            return;
+        }
 
-        if (isExcluded) {
-            chain.doFilter(request, response);
+        HttpServletRequest authenticated = authenticate(request, response, access);
+        authCompleted(request, authStart);
+        if (authenticated == null) {
             return;
         }
 
+        try {
+            chain.doFilter(authenticated, response);
+        } catch (Exception e) {
+            log.error("Error procesando token en gateway", e);
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.getWriter().write("Error processing token");
+        }
+    }
+
+    /**
+     * Verifica el token y devuelve la request con las cabeceras de identidad,
+     * o {@code null} si ya se respondió con 401/403.
+     */
+    private HttpServletRequest authenticate(HttpServletRequest request, HttpServletResponse response,
+            PathAccess access) throws IOException {
+        String path = request.getRequestURI();
+
+        if (access == PathAccess.DENIED) {
+            log.warn("Solicitud a ruta no expuesta por el gateway: {}", path);
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.getWriter().write("Forbidden");
+            return null;
+        }
+
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            log.warn("Solicitud no autenticada a {}: falta header Authorization", path);
+            authEventLogger.record(AuthOutcome.MISSING_HEADER, path, null);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("Missing or invalid Authorization header");
-            return;
+            return null;
         }
 
         String token = authHeader.substring(7);
-        if (!jwtUtil.validateToken(token)) {
-            log.warn("Token inválido para solicitud a {}", path);
+        VerifiedToken verified;
+        String envelope;
+        try {
+            // Solo las verificaciones exitosas quedan en caché
+            verified = tokenCache.verify(token);
+            // Un claim con separadores del sobre lanza IllegalArgumentException (MALFORMED)
+            envelope = identityEnvelopeCodec.isEnabled() ? identityEnvelopeCodec.encode(verified) : null;
+        } catch (Exception e) {
+            // Muestreado y contado por resultado (firma, expirado, mal formado)
+            authEventLogger.recordFailure(e, path);
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
             response.getWriter().write("Invalid Token");
-            return;
+            return null;
         }
 
-        try {
-            Claims claims = jwtUtil.extractAllClaims(token);
-            String userId = claims.get("userId", String.class);
-            Object rolesObj = claims.get("roles");
-            String roles = rolesObj != null ? rolesObj.toString() : "";
+        // Los filtros posteriores (JwtAuthenticationFilter) reutilizan este resultado
+        request.setAttribute(VerifiedToken.REQUEST_ATTRIBUTE, verified);
 
-            MutableHttpServletRequest mutableRequest = new MutableHttpServletRequest(request);
-            if (userId != null) {
-                mutableRequest.putHeader("X-Auth-User-Id", userId);
-            }
-            mutableRequest.putHeader("X-Auth-Roles", roles);
-            // También propagar el email/subject si es necesario
-            mutableRequest.putHeader("X-Auth-Email", claims.getSubject());
-
-            chain.doFilter(mutableRequest, response);
+        // Un valor null elimina la cabecera aunque el cliente la haya enviado
+        String[] values = {
+                verified.userId(),
+                verified.roles().toString(),
+                verified.subject(),
+                envelope
+        };
+        return new HeaderOverlayRequest(request, AUTH_HEADERS, values);
+    }
 
-        } catch (Exception e) {
-            log.error("Error procesando token en gateway", e);
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("Error processing token");
+    private static void authCompleted(HttpServletRequest request, long authStart) {
+        RequestTimings timings = RequestTimings.of(request);
+        if (timings != null) {
+            timings.authCompleted(authStart);
         }
     }
 }
@@ -0,0 +1,178 @@
+package com.auth.gatewayservice.filter;
+
+import com.auth.gatewayservice.coalescing.BoundedCaptureResponse;
+import com.auth.gatewayservice.coalescing.CoalescingProperties;
+import com.auth.gatewayservice.coalescing.SharedResponse;
+import com.auth.gatewayservice.security.PathPatternTrie;
+import com.common.shared.security.util.VerifiedToken;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * "Singleflight" para GETs idénticos y concurrentes.
+ *
+ * La primera request (líder) va al upstream; las que llegan mientras está en
+ * curso con el mismo path, query, cabeceras de negociación y alcance de
+ * autorización esperan y reciben una copia de su respuesta. El alcance son los
+ * roles y permisos del token ordenados, así que nunca se comparte una respuesta
+ * entre conjuntos de permisos distintos.
+ *
+ * Solo se comparten respuestas 200 sin Set-Cookie y por debajo del tamaño
+ * máximo; en cualquier otro caso, o si la espera vence, cada request sigue su
+ * camino normal hacia el upstream.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 120)
+@EnableConfigurationProperties(CoalescingProperties.class)
+@Slf4j
+public class CoalescingFilter implements Filter {
+
+    private final CoalescingProperties properties;
+    private final PathPatternTrie<Boolean> coalescedPaths = new PathPatternTrie<>();
+    private final ConcurrentHashMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    public CoalescingFilter(CoalescingProperties properties) {
+        this.properties = properties;
+        for (String pattern : properties.getPaths()) {
+            coalescedPaths.insert(pattern.trim(), Boolean.TRUE);
+        }
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        if (!properties.isEnabled()
+                || !"GET".equals(request.getMethod())
+                || coalescedPaths.match(request.getRequestURI()) == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = coalescingKey(request);
+        CompletableFuture<SharedResponse> ownFlight = new CompletableFuture<>();
+        CompletableFuture<SharedResponse> existing = inFlight.putIfAbsent(key, ownFlight);
+
+        if (existing == null) {
+            lead(key, ownFlight, request, response, chain);
+        } else {
+            follow(existing, request, response, chain);
+        }
+    }
+
+    public long leaders() {
+        return leaders.sum();
+    }
+
+    public long coalesced() {
+        return coalesced.sum();
+    }
+
+    public long fallbacks() {
+        return fallbacks.sum();
+    }
+
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    private void lead(String key, CompletableFuture<SharedResponse> flight, HttpServletRequest request,
+            HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
+        leaders.increment();
+        // Respuestas por encima de max-body-size pasan directas sin quedar en memoria
+        BoundedCaptureResponse wrapper = new BoundedCaptureResponse(response,
+                properties.getMaxBodySize().toBytes());
+        SharedResponse shared = null;
+        try {
+            chain.doFilter(request, wrapper);
+            if (isShareable(wrapper)) {
+                shared = SharedResponse.capture(wrapper, wrapper.getCapturedBody());
+            }
+        } finally {
+            // Primero se libera la clave: las requests nuevas ya no deben unirse a este vuelo
+            inFlight.remove(key, flight);
+            flight.complete(shared);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void follow(CompletableFuture<SharedResponse> flight, HttpServletRequest request,
+            HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
+        SharedResponse shared = null;
+        try {
+            shared = flight.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Request coalesced sin respuesta compartida para {}", request.getRequestURI());
+        }
+
+        if (shared == null) {
+            fallbacks.increment();
+            chain.doFilter(request, response);
+            return;
+        }
+        coalesced.increment();
+        shared.writeTo(response);
+    }
+
+    private boolean isShareable(BoundedCaptureResponse wrapper) {
+        return wrapper.getStatus() == HttpServletResponse.SC_OK
+                && wrapper.isCaptured()
+                && wrapper.getHeader(HttpHeaders.SET_COOKIE) == null;
+    }
+
+    private static String coalescingKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(128)
+                .append(request.getRequestURI())
+                .append('?').append(request.getQueryString() != null ? request.getQueryString() : "")
+                .append('|').append(nullToEmpty(request.getHeader(HttpHeaders.ACCEPT)))
+                .append('|').append(nullToEmpty(request.getHeader(HttpHeaders.ACCEPT_ENCODING)))
+                .append('|').append(nullToEmpty(request.getHeader(HttpHeaders.ACCEPT_LANGUAGE)))
+                .append('|');
+
+        if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken token) {
+            key.append(sorted(token.roles())).append('|').append(sorted(token.permissions()));
+        } else {
+            key.append("anonymous");
+        }
+        return key.toString();
+    }
+
+    private static List<String> sorted(List<String> values) {
+        if (values.size() < 2) {
+            return values;
+        }
+        List<String> copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,46 @@
+package com.auth.gatewayservice.filter;
+
+import com.auth.gatewayservice.security.EdgeAuthorizationRules;
+import com.common.shared.security.util.VerifiedToken;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Rechaza con 403 en el gateway las requests cuyo token no tiene las
+ * autoridades de la tabla {@code application.gateway.authorization}, sin
+ * llegar al upstream. Las rutas públicas (sin token) no se evalúan.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 105)
+@Slf4j
+@RequiredArgsConstructor
+public class EdgeAuthorizationFilter implements Filter {
+
+    private final EdgeAuthorizationRules rules;
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken token
+                && !rules.isAllowed(request.getMethod(), request.getRequestURI(), token)) {
+            log.warn("Acceso denegado en gateway a {} {} para {}", request.getMethod(),
+                    request.getRequestURI(), token.subject());
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            response.getWriter().write("Forbidden");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,141 @@
+package com.auth.gatewayservice.filter;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+
+/**
+ * Superpone un conjunto pequeño y fijo de cabeceras sobre la request original
+ * sin copiar ni mezclar sus mapas de cabeceras.
+ *
+ * Los nombres se comparan sin distinguir mayúsculas. Una cabecera superpuesta
+ * oculta siempre a la enviada por el cliente con el mismo nombre, y si su valor
+ * es {@code null} la cabecera desaparece: así el cliente no puede inyectar
+ * X-Auth-* propias. El cuerpo no se toca: getInputStream() es el del request
+ * original y se transmite tal cual al upstream.
+ */
+public final class HeaderOverlayRequest extends HttpServletRequestWrapper {
+
+    private final String[] names;
+    private final String[] values;
+
+    /**
+     * @param names  nombres de cabecera; el arreglo se comparte, no se copia
+     * @param values valores en el mismo orden que {@code names}; {@code null}
+     *               elimina la cabecera
+     */
+    public HeaderOverlayRequest(HttpServletRequest request, String[] names, String[] values) {
+        super(request);
+        if (names.length != values.length) {
+            throw new IllegalArgumentException("names y values deben tener el mismo tamaño");
+        }
+        this.names = names;
+        this.values = values;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        int index = indexOf(name);
+        return index >= 0 ? values[index] : super.getHeader(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return super.getHeaders(name);
+        }
+        String value = values[index];
+        return value != null ? Collections.enumeration(Collections.singletonList(value))
+                : Collections.emptyEnumeration();
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return super.getIntHeader(name);
+        }
+        return values[index] != null ? Integer.parseInt(values[index]) : -1;
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        int index = indexOf(name);
+        if (index < 0) {
+            return super.getDateHeader(name);
+        }
+        if (values[index] == null) {
+            return -1L;
+        }
+        return ZonedDateTime.parse(values[index], DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return new HeaderNames(super.getHeaderNames());
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Primero las cabeceras superpuestas con valor y luego las originales que
+     * no están superpuestas. Se recorre bajo demanda, sin construir un Set.
+     */
+    private final class HeaderNames implements Enumeration<String> {
+
+        private final Enumeration<String> original;
+        private int overlayIndex;
+        private String next;
+
+        private HeaderNames(Enumeration<String> original) {
+            this.original = original;
+            advance();
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            return next != null;
+        }
+
+        @Override
+        public String nextElement() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            String current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            while (overlayIndex < names.length) {
+                int index = overlayIndex++;
+                if (values[index] != null) {
+                    next = names[index];
+                    return;
+                }
+            }
+            while (original.hasMoreElements()) {
+                String candidate = original.nextElement();
+                if (indexOf(candidate) < 0) {
+                    next = candidate;
+                    return;
+                }
+            }
+            next = null;
+        }
+    }
+}
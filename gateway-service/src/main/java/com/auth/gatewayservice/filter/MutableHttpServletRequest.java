@@ -1,45 +0,0 @@
-package com.auth.gatewayservice.filter;
-
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletRequestWrapper;
-import java.util.*;
-
-public class MutableHttpServletRequest extends HttpServletRequestWrapper {
-    private final Map<String, String> customHeaders;
-
-    public MutableHttpServletRequest(HttpServletRequest request) {
-        super(request);
-        this.customHeaders = new HashMap<>();
-    }
-
-    public void putHeader(String name, String value) {
-        this.customHeaders.put(name, value);
-    }
-
-    @Override
-    public String getHeader(String name) {
-        String headerValue = customHeaders.get(name);
-        if (headerValue != null) {
-            return headerValue;
-        }
-        return super.getHeader(name);
-    }
-
-    @Override
-    public Enumeration<String> getHeaderNames() {
-        Set<String> set = new HashSet<>(customHeaders.keySet());
-        Enumeration<String> e = ((HttpServletRequest) getRequest()).getHeaderNames();
-        while (e.hasMoreElements()) {
-            set.add(e.nextElement());
-        }
-        return Collections.enumeration(set);
-    }
-
-    @Override
-    public Enumeration<String> getHeaders(String name) {
-        if (customHeaders.containsKey(name)) {
-            return Collections.enumeration(Collections.singletonList(customHeaders.get(name)));
-        }
-        return super.getHeaders(name);
-    }
-}
@@ -0,0 +1,76 @@
+package com.auth.gatewayservice.filter;
+
+import com.auth.gatewayservice.ratelimit.RateLimitPolicy;
+import com.auth.gatewayservice.ratelimit.RateLimiter;
+import com.common.shared.security.util.VerifiedToken;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Rate limit por principal, después de AuthenticationFilter.
+ *
+ * La clave es el userId del token ya verificado; en rutas públicas (sin token,
+ * p. ej. /api/auth/**) se usa la IP del cliente. Las requests rechazadas no
+ * llegan al upstream y reciben 429 con Retry-After.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 110)
+@Slf4j
+@RequiredArgsConstructor
+public class RateLimitFilter implements Filter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        if (!rateLimiter.isEnabled()) {
+            chain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        RateLimitPolicy policy = rateLimiter.policyFor(request.getRequestURI());
+        if (policy == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = principalKey(request);
+        long waitNanos = policy.tryAcquire(key, System.nanoTime());
+        if (waitNanos == 0) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = RateLimitPolicy.retryAfterSeconds(waitNanos);
+        if (log.isDebugEnabled()) {
+            log.debug("Rate limit {} excedido por {} en {}", policy.name(), key, request.getRequestURI());
+        }
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.getWriter().write("Too Many Requests");
+    }
+
+    private static String principalKey(HttpServletRequest request) {
+        if (request.getAttribute(VerifiedToken.REQUEST_ATTRIBUTE) instanceof VerifiedToken token) {
+            String principal = token.userId() != null ? token.userId() : token.subject();
+            if (principal != null) {
+                return "user:" + principal;
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
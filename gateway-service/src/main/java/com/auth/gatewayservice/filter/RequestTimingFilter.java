@@ -0,0 +1,38 @@
+package com.auth.gatewayservice.filter;
+
+import com.auth.gatewayservice.monitoring.GatewayLatencyMetrics;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Primer filtro del gateway: abre la medición de la request y, al terminar la
+ * cadena, registra la duración total y la de cada fase.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 90)
+@RequiredArgsConstructor
+public class RequestTimingFilter implements Filter {
+
+    private final GatewayLatencyMetrics latencyMetrics;
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        latencyMetrics.start(request);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            latencyMetrics.finish(request, response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import com.auth.gatewayservice.monitoring.RequestTimings;
+import org.springframework.cloud.gateway.server.mvc.common.MvcUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * Filtro de ruta que elige la instancia del upstream y registra el resultado
+ * para la detección pasiva de fallos. Sustituye a {@code before(uri(...))}.
+ */
+public final class LoadBalancerFilterFunctions {
+
+    private LoadBalancerFilterFunctions() {
+    }
+
+    public static HandlerFilterFunction<ServerResponse, ServerResponse> loadBalance(UpstreamPool pool) {
+        return (request, next) -> {
+            UpstreamInstance instance = pool.choose();
+            MvcUtils.setRequestUrl(request, instance.uri());
+            instance.onStart();
+
+            RequestTimings timings = RequestTimings.of(request.servletRequest());
+            if (timings != null) {
+                timings.upstreamStarted(pool.service());
+            }
+
+            ServerResponse response;
+            try {
+                response = next.handle(request);
+            } catch (Exception e) {
+                pool.onFailure(instance);
+                throw e;
+            } finally {
+                if (timings != null) {
+                    timings.upstreamCompleted();
+                }
+            }
+
+            if (isUpstreamFailure(response.statusCode())) {
+                pool.onFailure(instance);
+            } else {
+                pool.onSuccess(instance);
+            }
+            return response;
+        };
+    }
+
+    // Solo estados que indican una instancia caída o saturada, no errores de negocio
+    private static boolean isUpstreamFailure(HttpStatusCode status) {
+        int code = status.value();
+        return code == 502 || code == 503 || code == 504;
+    }
+}
@@ -0,0 +1,44 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Detección de instancias caídas para las rutas con varias URLs en
+ * {@code application.services.*.url}.
+ */
+@ConfigurationProperties(prefix = "application.gateway.load-balancer")
+@Getter
+@Setter
+public class LoadBalancerProperties {
+
+    /** Fallos consecutivos (error de conexión o 502/503/504) antes de expulsar la instancia. */
+    private int failureThreshold = 3;
+
+    /** Tiempo que una instancia expulsada queda fuera de la rotación. */
+    private Duration ejectionDuration = Duration.ofSeconds(30);
+
+    private HealthCheck healthCheck = new HealthCheck();
+
+    @Getter
+    @Setter
+    public static class HealthCheck {
+
+        private boolean enabled = true;
+
+        private Duration interval = Duration.ofSeconds(5);
+
+        private Duration timeout = Duration.ofSeconds(1);
+
+        /**
+         * Path HTTP de salud por servicio (clave = application.services.*). Los
+         * servicios sin path se comprueban con una conexión TCP.
+         */
+        private Map<String, String> paths = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,124 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Probes activos de las instancias de cada upstream.
+ *
+ * Con path configurado hace un GET y considera sana cualquier respuesta 2xx;
+ * sin path comprueba que el puerto acepte conexiones TCP. Solo se ejecuta para
+ * servicios con más de una instancia: con una sola no hay a dónde desviar.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpstreamHealthChecker {
+
+    private final UpstreamPools pools;
+    private final LoadBalancerProperties properties;
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService probeExecutor;
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void start() {
+        LoadBalancerProperties.HealthCheck healthCheck = properties.getHealthCheck();
+        boolean anyMultiInstance = pools.all().stream().anyMatch(pool -> pool.instances().size() > 1);
+        if (!healthCheck.isEnabled() || !anyMultiInstance) {
+            return;
+        }
+
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(healthCheck.getTimeout())
+                .build();
+        probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upstream-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMs = healthCheck.getInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::probeAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("Health checks de upstreams cada {}", healthCheck.getInterval());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            probeExecutor.shutdownNow();
+        }
+    }
+
+    private void probeAll() {
+        for (UpstreamPool pool : pools.all()) {
+            if (pool.instances().size() < 2) {
+                continue;
+            }
+            String path = properties.getHealthCheck().getPaths().get(pool.service());
+            for (UpstreamInstance instance : pool.instances()) {
+                // Cada probe en su propio hilo virtual: una instancia colgada no retrasa al resto
+                probeExecutor.execute(() -> probe(pool, instance, path));
+            }
+        }
+    }
+
+    private void probe(UpstreamPool pool, UpstreamInstance instance, String path) {
+        boolean healthy = path == null ? tcpProbe(instance.uri()) : httpProbe(instance.uri(), path);
+        if (healthy != instance.isProbeHealthy()) {
+            if (healthy) {
+                log.info("Instancia {} de {} vuelve a responder", instance.uri(), pool.service());
+            } else {
+                log.warn("Instancia {} de {} no responde al health check", instance.uri(), pool.service());
+            }
+        }
+        instance.setProbeHealthy(healthy);
+    }
+
+    private boolean tcpProbe(URI uri) {
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equals(uri.getScheme()) ? 443 : 80);
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(uri.getHost(), port),
+                    (int) properties.getHealthCheck().getTimeout().toMillis());
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean httpProbe(URI uri, String path) {
+        Duration timeout = properties.getHealthCheck().getTimeout();
+        HttpRequest request = HttpRequest.newBuilder(uri.resolve(path))
+                .timeout(timeout)
+                .GET()
+                .build();
+        try {
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
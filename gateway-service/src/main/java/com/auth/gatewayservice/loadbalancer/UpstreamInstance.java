@@ -0,0 +1,73 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Una instancia de un upstream con su carga actual y su estado de salud.
+ *
+ * La instancia está disponible si el último probe activo fue exitoso y no está
+ * expulsada por fallos pasivos. Todo el estado es atómico o volatile: se lee
+ * en cada request sin bloqueos.
+ */
+public final class UpstreamInstance {
+
+    private final URI uri;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private volatile boolean probeHealthy = true;
+    private volatile long ejectedUntilNanos;
+    private volatile boolean ejected;
+
+    UpstreamInstance(URI uri) {
+        this.uri = uri;
+    }
+
+    public URI uri() {
+        return uri;
+    }
+
+    /** Requests en curso hacia esta instancia. */
+    public int outstanding() {
+        return outstanding.get();
+    }
+
+    public boolean isAvailable(long nowNanos) {
+        return probeHealthy && (!ejected || nowNanos - ejectedUntilNanos >= 0);
+    }
+
+    void onStart() {
+        outstanding.incrementAndGet();
+    }
+
+    void onSuccess() {
+        outstanding.decrementAndGet();
+        consecutiveFailures.set(0);
+        ejected = false;
+    }
+
+    /**
+     * Registra un fallo pasivo.
+     *
+     * @return {@code true} si este fallo provocó la expulsión de la instancia
+     */
+    boolean onFailure(int threshold, long ejectionNanos) {
+        outstanding.decrementAndGet();
+        if (consecutiveFailures.incrementAndGet() < threshold) {
+            return false;
+        }
+        consecutiveFailures.set(0);
+        ejectedUntilNanos = System.nanoTime() + ejectionNanos;
+        ejected = true;
+        return true;
+    }
+
+    boolean isProbeHealthy() {
+        return probeHealthy;
+    }
+
+    void setProbeHealthy(boolean probeHealthy) {
+        this.probeHealthy = probeHealthy;
+    }
+}
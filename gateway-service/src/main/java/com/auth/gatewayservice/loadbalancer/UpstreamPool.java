@@ -0,0 +1,95 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Instancias de un servicio y la política de selección.
+ *
+ * Usa "power of two choices": se toman dos instancias disponibles al azar y se
+ * elige la de menos requests en curso. Con una sola instancia no hay selección.
+ * Si ninguna está disponible se elige entre todas (fail-open), para que un
+ * probe mal configurado no deje la ruta sin servicio.
+ */
+@Slf4j
+public final class UpstreamPool {
+
+    private final String service;
+    private final List<UpstreamInstance> instances;
+    private final int failureThreshold;
+    private final long ejectionNanos;
+
+    UpstreamPool(String service, List<URI> uris, int failureThreshold, long ejectionNanos) {
+        if (uris.isEmpty()) {
+            throw new IllegalStateException("El servicio " + service + " no tiene URLs configuradas");
+        }
+        this.service = service;
+        this.instances = uris.stream().map(UpstreamInstance::new).toList();
+        this.failureThreshold = failureThreshold;
+        this.ejectionNanos = ejectionNanos;
+    }
+
+    public String service() {
+        return service;
+    }
+
+    public List<UpstreamInstance> instances() {
+        return instances;
+    }
+
+    public UpstreamInstance choose() {
+        int size = instances.size();
+        if (size == 1) {
+            return instances.get(0);
+        }
+
+        long now = System.nanoTime();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int start = random.nextInt(size);
+        UpstreamInstance first = nextAvailable(start, size, now);
+        if (first == null) {
+            return leastOutstanding(instances.get(start), instances.get((start + 1) % size));
+        }
+
+        // Segunda candidata distinta de la primera, también al azar
+        int offset = 1 + random.nextInt(size - 1);
+        UpstreamInstance second = nextAvailable(start + offset, size, now);
+        if (second == null || second == first) {
+            return first;
+        }
+        return leastOutstanding(first, second);
+    }
+
+    public long availableCount() {
+        long now = System.nanoTime();
+        return instances.stream().filter(i -> i.isAvailable(now)).count();
+    }
+
+    void onSuccess(UpstreamInstance instance) {
+        instance.onSuccess();
+    }
+
+    void onFailure(UpstreamInstance instance) {
+        if (instance.onFailure(failureThreshold, ejectionNanos)) {
+            log.warn("Instancia {} de {} expulsada tras {} fallos consecutivos",
+                    instance.uri(), service, failureThreshold);
+        }
+    }
+
+    private UpstreamInstance nextAvailable(int from, int size, long now) {
+        for (int i = 0; i < size; i++) {
+            UpstreamInstance candidate = instances.get((from + i) % size);
+            if (candidate.isAvailable(now)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static UpstreamInstance leastOutstanding(UpstreamInstance a, UpstreamInstance b) {
+        return b.outstanding() < a.outstanding() ? b : a;
+    }
+}
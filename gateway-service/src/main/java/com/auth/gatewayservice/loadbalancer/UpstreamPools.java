@@ -0,0 +1,59 @@
+package com.auth.gatewayservice.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro de los pools de instancias de cada servicio.
+ *
+ * {@code application.services.*.url} admite una o varias URLs separadas por
+ * coma. Es la única fuente de upstreams: la usan las rutas, los clientes
+ * salientes y los health checks.
+ */
+@Component
+@Slf4j
+public class UpstreamPools {
+
+    private final Map<String, UpstreamPool> pools = new LinkedHashMap<>();
+
+    public UpstreamPools(
+            LoadBalancerProperties properties,
+            @Value("${application.services.auth-service.url:http://localhost:8081}") String[] authServiceUrls,
+            @Value("${application.services.user-service.url:http://localhost:8082}") String[] userServiceUrls,
+            @Value("${application.services.audit-service.url:http://localhost:8083}") String[] auditServiceUrls) {
+        long ejectionNanos = properties.getEjectionDuration().toNanos();
+        register("auth-service", authServiceUrls, properties.getFailureThreshold(), ejectionNanos);
+        register("user-service", userServiceUrls, properties.getFailureThreshold(), ejectionNanos);
+        register("audit-service", auditServiceUrls, properties.getFailureThreshold(), ejectionNanos);
+    }
+
+    public UpstreamPool get(String service) {
+        UpstreamPool pool = pools.get(service);
+        if (pool == null) {
+            throw new IllegalArgumentException("Servicio upstream desconocido: " + service);
+        }
+        return pool;
+    }
+
+    public Collection<UpstreamPool> all() {
+        return pools.values();
+    }
+
+    private void register(String service, String[] urls, int failureThreshold, long ejectionNanos) {
+        List<URI> uris = Arrays.stream(urls)
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .map(URI::create)
+                .toList();
+        pools.put(service, new UpstreamPool(service, uris, failureThreshold, ejectionNanos));
+        log.info("Upstream {} con {} instancia(s): {}", service, uris.size(), uris);
+    }
+}
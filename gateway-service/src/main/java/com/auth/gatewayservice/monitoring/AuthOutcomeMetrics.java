@@ -0,0 +1,30 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.common.shared.security.service.AuthEventLogger;
+import com.common.shared.security.service.AuthOutcome;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Resultados de autenticación por tipo (success, missing_header, expired...).
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthOutcomeMetrics implements MeterBinder {
+
+    private final AuthEventLogger authEventLogger;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (AuthOutcome outcome : AuthOutcome.values()) {
+            FunctionCounter.builder("gateway.auth.outcomes", authEventLogger, logger -> logger.count(outcome))
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.auth.gatewayservice.filter.CoalescingFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Requests que fueron al upstream (leader), que reutilizaron una respuesta en
+ * curso (coalesced) y que esperaron sin poder reutilizarla (fallback).
+ */
+@Component
+@RequiredArgsConstructor
+public class CoalescingMetrics implements MeterBinder {
+
+    private final CoalescingFilter coalescingFilter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.coalescing.requests", coalescingFilter, CoalescingFilter::leaders)
+                .tag("role", "leader")
+                .register(registry);
+        FunctionCounter.builder("gateway.coalescing.requests", coalescingFilter, CoalescingFilter::coalesced)
+                .tag("role", "coalesced")
+                .register(registry);
+        FunctionCounter.builder("gateway.coalescing.requests", coalescingFilter, CoalescingFilter::fallbacks)
+                .tag("role", "fallback")
+                .register(registry);
+        Gauge.builder("gateway.coalescing.in-flight", coalescingFilter, CoalescingFilter::inFlight)
+                .register(registry);
+    }
+}
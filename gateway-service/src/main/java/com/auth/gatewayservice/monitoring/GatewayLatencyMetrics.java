@@ -0,0 +1,88 @@
+package com.auth.gatewayservice.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.ServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Histogramas de latencia por ruta, status y fase.
+ *
+ * {@code gateway.request.duration} mide la request completa dentro del gateway
+ * y {@code gateway.request.phase} la separa en auth, upstream y write. Los
+ * Timer se crean una vez por combinación de tags y se cachean: registrar una
+ * muestra es un lookup en el mapa y un incremento sin locks del histograma.
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayLatencyMetrics {
+
+    static final String PHASE_AUTH = "auth";
+    static final String PHASE_UPSTREAM = "upstream";
+    static final String PHASE_WRITE = "write";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Abre la medición de la request; las fases se anotan en {@link RequestTimings}.
+     */
+    public void start(ServletRequest request) {
+        request.setAttribute(RequestTimings.REQUEST_ATTRIBUTE, new RequestTimings(System.nanoTime()));
+    }
+
+    /**
+     * Registra la request completa y sus fases con el status final.
+     */
+    public void finish(ServletRequest request, int status) {
+        RequestTimings timings = RequestTimings.of(request);
+        if (timings != null) {
+            record(timings, status, System.nanoTime());
+        }
+    }
+
+    private void record(RequestTimings timings, int status, long endNanos) {
+        String route = timings.route();
+
+        timer("gateway.request.duration", route, status, null)
+                .record(endNanos - timings.startNanos(), TimeUnit.NANOSECONDS);
+
+        if (timings.authNanos() >= 0) {
+            timer("gateway.request.phase", route, status, PHASE_AUTH)
+                    .record(timings.authNanos(), TimeUnit.NANOSECONDS);
+        }
+        long upstreamNanos = timings.upstreamNanos();
+        if (upstreamNanos >= 0) {
+            timer("gateway.request.phase", route, status, PHASE_UPSTREAM)
+                    .record(upstreamNanos, TimeUnit.NANOSECONDS);
+            timer("gateway.request.phase", route, status, PHASE_WRITE)
+                    .record(endNanos - timings.upstreamEndNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(String name, String route, int status, String phase) {
+        return timers.computeIfAbsent(new TimerKey(name, route, status, phase), key -> {
+            Timer.Builder builder = Timer.builder(key.name())
+                    .tag("route", key.route())
+                    .tag("status", Integer.toString(key.status()))
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED);
+            if (key.phase() != null) {
+                builder.tag("phase", key.phase());
+            }
+            return builder.register(registry);
+        });
+    }
+
+    private record TimerKey(String name, String route, int status, String phase) {
+    }
+}
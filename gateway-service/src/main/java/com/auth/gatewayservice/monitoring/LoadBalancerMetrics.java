@@ -0,0 +1,37 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.auth.gatewayservice.loadbalancer.UpstreamInstance;
+import com.auth.gatewayservice.loadbalancer.UpstreamPool;
+import com.auth.gatewayservice.loadbalancer.UpstreamPools;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Instancias disponibles por servicio y requests en curso por instancia.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadBalancerMetrics implements MeterBinder {
+
+    private final UpstreamPools upstreamPools;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (UpstreamPool pool : upstreamPools.all()) {
+            Gauge.builder("gateway.upstream.instances.available", pool, UpstreamPool::availableCount)
+                    .description("Instancias del servicio en rotación")
+                    .tag("service", pool.service())
+                    .register(registry);
+            for (UpstreamInstance instance : pool.instances()) {
+                Gauge.builder("gateway.upstream.instance.outstanding", instance, UpstreamInstance::outstanding)
+                        .description("Requests en curso hacia la instancia")
+                        .tag("service", pool.service())
+                        .tag("instance", instance.uri().getRawAuthority())
+                        .register(registry);
+            }
+        }
+    }
+}
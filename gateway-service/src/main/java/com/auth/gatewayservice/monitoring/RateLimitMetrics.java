@@ -0,0 +1,38 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.auth.gatewayservice.ratelimit.RateLimitPolicy;
+import com.auth.gatewayservice.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Requests admitidas/rechazadas y buckets activos por política de rate limit.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitMetrics implements MeterBinder {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RateLimitPolicy policy : rateLimiter.policies()) {
+            FunctionCounter.builder("gateway.ratelimit.requests", policy, RateLimitPolicy::allowed)
+                    .tag("policy", policy.name())
+                    .tag("outcome", "allowed")
+                    .register(registry);
+            FunctionCounter.builder("gateway.ratelimit.requests", policy, RateLimitPolicy::rejected)
+                    .tag("policy", policy.name())
+                    .tag("outcome", "rejected")
+                    .register(registry);
+            Gauge.builder("gateway.ratelimit.buckets", policy, RateLimitPolicy::activeBuckets)
+                    .description("Principales con bucket activo")
+                    .tag("policy", policy.name())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.auth.gatewayservice.monitoring;
+
+import jakarta.servlet.ServletRequest;
+
+/**
+ * Marcas de tiempo de una request a través del gateway, guardadas como
+ * atributo de la request. Cada fase la completa el componente que la ejecuta:
+ * AuthenticationFilter (auth) y el filtro de balanceo (upstream). La escritura
+ * es el resto desde que el upstream respondió hasta que termina la cadena.
+ *
+ * Solo lo usa el hilo que atiende la request, por eso no es thread-safe.
+ */
+public final class RequestTimings {
+
+    public static final String REQUEST_ATTRIBUTE = RequestTimings.class.getName();
+
+    static final String NO_ROUTE = "none";
+
+    private final long startNanos;
+    private long authNanos = -1;
+    private long upstreamStartNanos = -1;
+    private long upstreamEndNanos = -1;
+    private String route = NO_ROUTE;
+
+    RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Timings de la request o {@code null} si la medición no está activa.
+     */
+    public static RequestTimings of(ServletRequest request) {
+        return request.getAttribute(REQUEST_ATTRIBUTE) instanceof RequestTimings timings ? timings : null;
+    }
+
+    public void authCompleted(long authStartNanos) {
+        this.authNanos = System.nanoTime() - authStartNanos;
+    }
+
+    public void upstreamStarted(String route) {
+        this.route = route;
+        this.upstreamStartNanos = System.nanoTime();
+    }
+
+    public void upstreamCompleted() {
+        this.upstreamEndNanos = System.nanoTime();
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long authNanos() {
+        return authNanos;
+    }
+
+    long upstreamNanos() {
+        return upstreamStartNanos >= 0 && upstreamEndNanos >= 0 ? upstreamEndNanos - upstreamStartNanos : -1;
+    }
+
+    long upstreamEndNanos() {
+        return upstreamEndNanos;
+    }
+
+    String route() {
+        return route;
+    }
+}
@@ -0,0 +1,33 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.auth.gatewayservice.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aciertos, fallos y evicciones de la caché de tokens verificados.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenCacheMetrics implements MeterBinder {
+
+    private final VerifiedTokenCache tokenCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("gateway.token.cache.requests", tokenCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("gateway.token.cache.requests", tokenCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("gateway.token.cache.evictions", tokenCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("gateway.token.cache.size", tokenCache, VerifiedTokenCache::estimatedSize)
+                .register(registry);
+    }
+}
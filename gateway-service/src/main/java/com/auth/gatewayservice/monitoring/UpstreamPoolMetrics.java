@@ -0,0 +1,53 @@
+package com.auth.gatewayservice.monitoring;
+
+import com.auth.gatewayservice.client.RoutingClientHttpRequestFactory;
+import com.auth.gatewayservice.client.UpstreamClient;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas del pool de conexiones de cada ruta, etiquetadas por {@code route}.
+ */
+@Component
+@RequiredArgsConstructor
+public class UpstreamPoolMetrics implements MeterBinder {
+
+    private final RoutingClientHttpRequestFactory requestFactory;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (UpstreamClient client : requestFactory.clients()) {
+            if (!client.pooled()) {
+                continue;
+            }
+            Tags tags = Tags.of("route", client.route());
+
+            Gauge.builder("gateway.upstream.pool.leased", client, UpstreamClient::leased)
+                    .description("Conexiones en uso hacia el upstream")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("gateway.upstream.pool.pending", client, UpstreamClient::pending)
+                    .description("Requests esperando una conexión libre")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("gateway.upstream.pool.available", client, UpstreamClient::available)
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("gateway.upstream.pool.max", client, UpstreamClient::max)
+                    .tags(tags)
+                    .register(registry);
+            FunctionTimer.builder("gateway.upstream.pool.acquire", client,
+                            UpstreamClient::acquires, UpstreamClient::acquireWaitNanos, TimeUnit.NANOSECONDS)
+                    .description("Tiempo esperando una conexión del pool")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.auth.gatewayservice.monitoring;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Diagnóstico de hilos virtuales fijados (pinned) a su carrier.
+ *
+ * Escucha el evento JFR {@code jdk.VirtualThreadPinned}, que la JVM emite
+ * cuando un hilo virtual bloquea dentro de un bloque synchronized o de código
+ * nativo más tiempo que el umbral. Cuenta cada evento y registra un WARN con
+ * los frames superiores, limitado a uno por intervalo para no inundar el log.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor implements MeterBinder {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final long logIntervalNanos;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final AtomicLong lastLogNanos = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            @Value("${application.gateway.virtual-threads.pinning-monitor.enabled:true}") boolean enabled,
+            @Value("${application.gateway.virtual-threads.pinning-monitor.threshold:20ms}") Duration threshold,
+            @Value("${application.gateway.virtual-threads.pinning-monitor.log-interval:30s}") Duration logInterval) {
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.logIntervalNanos = logInterval.toNanos();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("Monitor de hilos virtuales fijados activo (umbral={})", threshold);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    /**
+     * Total de eventos de pinning observados desde el arranque.
+     */
+    public long pinnedEvents() {
+        return pinnedEvents.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jvm.threads.virtual.pinned", this, VirtualThreadPinningMonitor::pinnedEvents)
+                .description("Eventos jdk.VirtualThreadPinned por encima del umbral")
+                .register(registry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+
+        long now = System.nanoTime();
+        long last = lastLogNanos.get();
+        if (now - last < logIntervalNanos || !lastLogNanos.compareAndSet(last, now)) {
+            return;
+        }
+
+        log.warn("Hilo virtual fijado durante {} ms (total={}):\n{}",
+                event.getDuration().toMillis(), pinnedEvents.sum(), topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\t<sin stack trace>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.size(), LOGGED_FRAMES); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+}
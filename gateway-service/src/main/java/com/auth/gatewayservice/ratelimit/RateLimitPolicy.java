@@ -0,0 +1,127 @@
+package com.auth.gatewayservice.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token bucket de una ruta implementado como GCRA (generic cell rate algorithm).
+ *
+ * Cada principal guarda un único long, el "theoretical arrival time" (TAT), y
+ * se actualiza con compare-and-set: no hay locks ni hilo de recarga. Un bucket
+ * cuyo TAT ya pasó está lleno y puede eliminarse sin perder información.
+ *
+ * La limpieza primero retira el bucket con un CAS a {@link #RETIRED} y después
+ * lo quita del mapa. Así un tryAcquire que ya tenía la referencia no puede
+ * consumir sobre un bucket desenganchado (y perder ese consumo): su CAS falla,
+ * ve el bucket retirado y vuelve a buscar el vigente.
+ */
+public final class RateLimitPolicy {
+
+    private static final long RETIRED = Long.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String name;
+    private final double ratePerSecond;
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    RateLimitPolicy(String name, double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Política de rate limit inválida '" + name
+                    + "': rate-per-second debe ser > 0 y burst >= 1");
+        }
+        this.name = name;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * burst;
+    }
+
+    /**
+     * Consume un token del principal.
+     *
+     * @return 0 si la request se admite; si no, los nanosegundos hasta que haya
+     *         un token disponible
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        AtomicLong tat = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        while (true) {
+            long current = tat.get();
+            if (current == RETIRED) {
+                // La limpieza lo retiró: se sustituye por uno nuevo (estaba lleno, no se pierde nada)
+                buckets.remove(key, tat);
+                tat = buckets.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+                continue;
+            }
+            long base = Math.max(current, nowNanos);
+            long next = base + emissionIntervalNanos;
+            long wait = next - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                rejected.increment();
+                return wait;
+            }
+            if (tat.compareAndSet(current, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Elimina los buckets llenos (TAT en el pasado).
+     *
+     * @return cantidad de buckets eliminados
+     */
+    int sweep(long nowNanos) {
+        int removed = 0;
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong tat = entry.getValue();
+            long current = tat.get();
+            if (current != RETIRED && current - nowNanos <= 0 && tat.compareAndSet(current, RETIRED)) {
+                buckets.remove(entry.getKey(), tat);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Segundos enteros para Retry-After a partir de la espera de
+     * {@link #tryAcquire}: redondea hacia arriba y nunca devuelve menos de 1.
+     */
+    public static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public double ratePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int burst() {
+        return burst;
+    }
+
+    public int activeBuckets() {
+        return buckets.size();
+    }
+
+    public long allowed() {
+        return allowed.sum();
+    }
+
+    public long rejected() {
+        return rejected.sum();
+    }
+}
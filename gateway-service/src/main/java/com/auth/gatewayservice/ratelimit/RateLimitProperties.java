@@ -0,0 +1,42 @@
+package com.auth.gatewayservice.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Límites por ruta del gateway. Cada política se aplica por principal: el
+ * userId del token o, en rutas públicas, la IP del cliente.
+ */
+@ConfigurationProperties(prefix = "application.gateway.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Cada cuánto se eliminan los buckets ya recargados por completo. */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private List<Policy> policies = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+
+        /** Patrón de ruta (literal, '*' o '**' final); gana el más específico. */
+        private String pattern;
+
+        /** Requests sostenidas por segundo. */
+        private double ratePerSecond;
+
+        /** Requests que se admiten de golpe por encima de la tasa sostenida. */
+        private int burst = 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.auth.gatewayservice.ratelimit;
+
+import com.auth.gatewayservice.security.PathPatternTrie;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Políticas de rate limit compiladas en un {@link PathPatternTrie} y limpieza
+ * periódica de los buckets inactivos.
+ */
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+@Slf4j
+public class RateLimiter {
+
+    private final RateLimitProperties properties;
+    private final PathPatternTrie<RateLimitPolicy> policiesByPath = new PathPatternTrie<>();
+    private final List<RateLimitPolicy> policies = new ArrayList<>();
+
+    private ScheduledExecutorService sweeper;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            RateLimitPolicy compiled = new RateLimitPolicy(
+                    policy.getName() != null ? policy.getName() : policy.getPattern(),
+                    policy.getRatePerSecond(),
+                    policy.getBurst());
+            policiesByPath.insert(policy.getPattern(), compiled);
+            policies.add(compiled);
+            log.info("Rate limit {} -> {} req/s, burst {}", policy.getPattern(),
+                    policy.getRatePerSecond(), policy.getBurst());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && !policies.isEmpty();
+    }
+
+    /**
+     * Política aplicable al path, o {@code null} si la ruta no tiene límite.
+     */
+    public RateLimitPolicy policyFor(String path) {
+        return policiesByPath.match(path);
+    }
+
+    public List<RateLimitPolicy> policies() {
+        return Collections.unmodifiableList(policies);
+    }
+
+    @PostConstruct
+    void startSweeper() {
+        if (!isEnabled()) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopSweeper() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    private void sweep() {
+        sweep(System.nanoTime());
+    }
+
+    int sweep(long nowNanos) {
+        int total = 0;
+        for (RateLimitPolicy policy : policies) {
+            int removed = policy.sweep(nowNanos);
+            if (removed > 0) {
+                log.debug("Rate limit {}: {} buckets inactivos eliminados", policy.name(), removed);
+            }
+            total += removed;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,40 @@
+package com.auth.gatewayservice.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tabla declarativa ruta -> autoridades requeridas que el gateway comprueba
+ * antes de hacer proxy. Es un pre-chequeo: el {@code @PreAuthorize} del
+ * upstream sigue siendo la regla final.
+ */
+@ConfigurationProperties(prefix = "application.gateway.authorization")
+@Getter
+@Setter
+public class EdgeAuthorizationProperties {
+
+    private boolean enabled = true;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** Patrón de ruta (literal, '*' o '**' final); gana el más específico. */
+        private String pattern;
+
+        /** Métodos HTTP a los que aplica; vacío = todos. */
+        private List<String> methods = new ArrayList<>();
+
+        /**
+         * Basta con una. Los roles se escriben como ROLE_X y los permisos con
+         * su nombre (WRITE_PRIVILEGES) o como PERM_X.
+         */
+        private List<String> anyAuthority = new ArrayList<>();
+    }
+}
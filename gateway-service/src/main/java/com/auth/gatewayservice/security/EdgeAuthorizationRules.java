@@ -0,0 +1,111 @@
+package com.auth.gatewayservice.security;
+
+import com.common.shared.security.util.VerifiedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reglas de autorización del gateway compiladas en un {@link PathPatternTrie}.
+ *
+ * Un token concede ROLE_&lt;rol&gt; por cada rol y, por cada permiso, tanto el
+ * nombre tal cual como PERM_&lt;permiso&gt;. Es el superconjunto de lo que
+ * aceptan los servicios, para que el gateway nunca rechace algo que el
+ * upstream permitiría.
+ */
+@Component
+@EnableConfigurationProperties(EdgeAuthorizationProperties.class)
+@Slf4j
+public class EdgeAuthorizationRules {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final String PERM_PREFIX = "PERM_";
+
+    private final boolean enabled;
+    private final PathPatternTrie<List<CompiledRule>> rulesByPath = new PathPatternTrie<>();
+
+    public EdgeAuthorizationRules(EdgeAuthorizationProperties properties) {
+        this.enabled = properties.isEnabled();
+
+        // Un patrón puede tener varias reglas (p.ej. GET vs escritura): se agrupan
+        Map<String, List<CompiledRule>> grouped = new LinkedHashMap<>();
+        for (EdgeAuthorizationProperties.Rule rule : properties.getRules()) {
+            List<String> methods = rule.getMethods().stream()
+                    .map(m -> m.trim().toUpperCase(Locale.ROOT))
+                    .toList();
+            grouped.computeIfAbsent(rule.getPattern().trim(), p -> new ArrayList<>())
+                    .add(new CompiledRule(methods, rule.getAnyAuthority().stream().map(String::trim).toList()));
+        }
+        grouped.forEach((pattern, rules) -> {
+            rulesByPath.insert(pattern, List.copyOf(rules));
+            log.info("Autorización en gateway para {}: {}", pattern, rules);
+        });
+    }
+
+    /**
+     * Indica si el token puede acceder a la ruta. Las rutas o métodos sin regla
+     * se permiten y quedan a cargo del upstream.
+     */
+    public boolean isAllowed(String method, String path, VerifiedToken token) {
+        if (!enabled) {
+            return true;
+        }
+        List<CompiledRule> rules = rulesByPath.match(path);
+        if (rules == null) {
+            return true;
+        }
+        for (CompiledRule rule : rules) {
+            if (rule.appliesTo(method)) {
+                return rule.isSatisfiedBy(token);
+            }
+        }
+        return true;
+    }
+
+    private record CompiledRule(List<String> methods, List<String> anyAuthority) {
+
+        boolean appliesTo(String method) {
+            return methods.isEmpty() || methods.contains(method);
+        }
+
+        boolean isSatisfiedBy(VerifiedToken token) {
+            for (String authority : anyAuthority) {
+                if (grants(token, authority)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Compara sin concatenar prefijos para no crear Strings por request
+        private static boolean grants(VerifiedToken token, String authority) {
+            if (authority.startsWith(ROLE_PREFIX)) {
+                for (String role : token.roles()) {
+                    if (role.equals(authority) || matchesPrefixed(authority, ROLE_PREFIX, role)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            for (String permission : token.permissions()) {
+                if (permission.equals(authority) || matchesPrefixed(authority, PERM_PREFIX, permission)
+                        || matchesPrefixed(permission, PERM_PREFIX, authority)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean matchesPrefixed(String prefixed, String prefix, String name) {
+            return prefixed.length() == prefix.length() + name.length()
+                    && prefixed.startsWith(prefix)
+                    && prefixed.endsWith(name);
+        }
+    }
+}
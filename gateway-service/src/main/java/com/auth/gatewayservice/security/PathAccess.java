@@ -0,0 +1,13 @@
+package com.auth.gatewayservice.security;
+
+/**
+ * Nivel de acceso resuelto para una ruta del gateway.
+ */
+public enum PathAccess {
+    /** No requiere token. */
+    PUBLIC,
+    /** Nunca se expone a través del gateway. */
+    DENIED,
+    /** Requiere un token válido. */
+    AUTHENTICATED
+}
@@ -0,0 +1,149 @@
+package com.auth.gatewayservice.security;
+
+import java.util.Arrays;
+
+/**
+ * Trie de segmentos de ruta compilado una sola vez al arrancar.
+ *
+ * Soporta segmentos literales, {@code *} (exactamente un segmento) y {@code **}
+ * como último segmento (cero o más segmentos). Cuando varios patrones coinciden
+ * gana el más específico: en cada nivel se prefiere el literal sobre {@code *}
+ * y {@code *} sobre {@code **}.
+ *
+ * La búsqueda recorre el path con índices y {@link String#regionMatches}, sin
+ * crear substrings ni colecciones por request. No es thread-safe durante la
+ * construcción; una vez poblado, las lecturas concurrentes son seguras.
+ *
+ * @param <T> valor asociado a cada patrón
+ */
+public final class PathPatternTrie<T> {
+
+    private final Node<T> root = new Node<>("");
+
+    /**
+     * Registra un patrón.
+     *
+     * @throws IllegalArgumentException si el patrón no es soportado
+     * @throws IllegalStateException    si el patrón ya estaba registrado
+     */
+    public void insert(String pattern, T value) {
+        if (pattern == null || !pattern.startsWith("/")) {
+            throw new IllegalArgumentException("El patrón debe comenzar con '/': " + pattern);
+        }
+        String[] segments = Arrays.stream(pattern.split("/"))
+                .filter(s -> !s.isEmpty())
+                .toArray(String[]::new);
+
+        Node<T> node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' solo se admite como último segmento: " + pattern);
+                }
+                node.anyDepth = assign(node.anyDepth, value, pattern);
+                return;
+            }
+            if (segment.equals("*")) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node<>("*");
+                }
+                node = node.wildcard;
+            } else if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                throw new IllegalArgumentException("Comodines parciales no soportados en '" + segment + "': " + pattern);
+            } else {
+                node = node.literalChild(segment);
+            }
+        }
+        node.exact = assign(node.exact, value, pattern);
+    }
+
+    /**
+     * Devuelve el valor del patrón más específico que coincide con el path, o
+     * {@code null} si ninguno coincide. La query string no debe incluirse.
+     */
+    public T match(String path) {
+        if (path == null) {
+            return null;
+        }
+        return match(root, path, skipSlashes(path, 0));
+    }
+
+    private T match(Node<T> node, String path, int pos) {
+        int length = path.length();
+        if (pos >= length) {
+            return node.exact != null ? node.exact : node.anyDepth;
+        }
+
+        int end = path.indexOf('/', pos);
+        if (end < 0) {
+            end = length;
+        }
+        int segmentLength = end - pos;
+        int next = skipSlashes(path, end);
+
+        for (Node<T> child : node.literals) {
+            if (child.segment.length() == segmentLength
+                    && path.regionMatches(pos, child.segment, 0, segmentLength)) {
+                T found = match(child, path, next);
+                if (found != null) {
+                    return found;
+                }
+                break;
+            }
+        }
+
+        if (node.wildcard != null) {
+            T found = match(node.wildcard, path, next);
+            if (found != null) {
+                return found;
+            }
+        }
+
+        return node.anyDepth;
+    }
+
+    private static int skipSlashes(String path, int pos) {
+        int length = path.length();
+        while (pos < length && path.charAt(pos) == '/') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static <T> T assign(T current, T value, String pattern) {
+        if (current != null) {
+            throw new IllegalStateException("Patrón de ruta duplicado: " + pattern);
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Node<T> {
+
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        private final String segment;
+        // Arreglo en lugar de Map: el fan-out es pequeño y permite comparar sin substring
+        private Node<T>[] literals = (Node<T>[]) NO_CHILDREN;
+        private Node<T> wildcard;
+        private T exact;
+        private T anyDepth;
+
+        private Node(String segment) {
+            this.segment = segment;
+        }
+
+        private Node<T> literalChild(String segment) {
+            for (Node<T> child : literals) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            Node<T> child = new Node<>(segment);
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literals[literals.length - 1] = child;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.auth.gatewayservice.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fuente única de las reglas de acceso por ruta del gateway.
+ *
+ * Las listas se leen de {@code application.gateway.paths.*} y se compilan una
+ * vez en un {@link PathPatternTrie}. Tanto {@code AuthenticationFilter} como
+ * {@code GatewaySecurityConfig} consultan esta clase, de modo que el path se
+ * resuelve una sola vez por request (el resultado se guarda como atributo).
+ * Las rutas sin regla requieren autenticación.
+ */
+@Component
+@Slf4j
+public class PathRules {
+
+    public static final String REQUEST_ATTRIBUTE = PathAccess.class.getName();
+
+    private final PathPatternTrie<PathAccess> trie = new PathPatternTrie<>();
+
+    public PathRules(
+            @Value("${application.gateway.paths.public:/api/auth/**,/api-docs/**,/v3/api-docs/**,/swagger-ui/**,/swagger-ui.html}") String[] publicPaths,
+            @Value("${application.gateway.paths.denied:/internal/**}") String[] deniedPaths,
+            @Value("${application.gateway.paths.authenticated:}") String[] authenticatedPaths) {
+        register(publicPaths, PathAccess.PUBLIC);
+        register(deniedPaths, PathAccess.DENIED);
+        register(authenticatedPaths, PathAccess.AUTHENTICATED);
+    }
+
+    /**
+     * Resuelve el acceso de la request reutilizando el resultado si otro filtro
+     * ya lo calculó.
+     */
+    public PathAccess resolve(HttpServletRequest request) {
+        if (request.getAttribute(REQUEST_ATTRIBUTE) instanceof PathAccess access) {
+            return access;
+        }
+        PathAccess access = resolve(request.getRequestURI());
+        request.setAttribute(REQUEST_ATTRIBUTE, access);
+        return access;
+    }
+
+    public PathAccess resolve(String path) {
+        PathAccess access = trie.match(path);
+        return access != null ? access : PathAccess.AUTHENTICATED;
+    }
+
+    private void register(String[] patterns, PathAccess access) {
+        for (String pattern : patterns) {
+            String trimmed = pattern.trim();
+            if (!trimmed.isEmpty()) {
+                trie.insert(trimmed, access);
+                log.debug("Regla de ruta registrada: {} -> {}", trimmed, access);
+            }
+        }
+    }
+}
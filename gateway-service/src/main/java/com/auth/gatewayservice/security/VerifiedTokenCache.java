@@ -0,0 +1,122 @@
+package com.auth.gatewayservice.security;
+
+import com.common.shared.security.util.JwtUtil;
+import com.common.shared.security.util.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Caché acotada de tokens ya verificados.
+ *
+ * La clave es el SHA-256 del token (nunca el token en claro) y cada entrada
+ * expira, como máximo, en el "exp" del propio token. La evicción por tamaño
+ * usa W-TinyLFU (Caffeine). Solo se cachean verificaciones exitosas: un token
+ * inválido siempre vuelve a pasar por {@link JwtUtil#verify(String)}.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<TokenKey, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            JwtUtil jwtUtil,
+            @Value("${application.gateway.token-cache.enabled:true}") boolean enabled,
+            @Value("${application.gateway.token-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        log.info("Caché de tokens verificados {} (max-size={})", enabled ? "habilitada" : "deshabilitada", maxSize);
+    }
+
+    /**
+     * Devuelve el token verificado desde caché o lo verifica y lo almacena.
+     *
+     * @throws io.jsonwebtoken.JwtException si el token no es válido
+     */
+    public VerifiedToken verify(String token) {
+        if (!enabled) {
+            return jwtUtil.verify(token);
+        }
+
+        TokenKey key = TokenKey.of(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && !cached.isExpired(Instant.now())) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtUtil.verify(token);
+        cache.put(key, verified);
+        return verified;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Digest de 256 bits del token guardado como cuatro longs: evita retener el
+     * token (que puede pesar varios KB) y no requiere codificar el hash a String.
+     */
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(sha256().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+            }
+        }
+    }
+
+    /**
+     * Expira cada entrada exactamente en el "exp" del token.
+     */
+    private static final class TokenExpiry implements Expiry<TokenKey, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenKey key, VerifiedToken value, long currentTime) {
+            long nanos = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(nanos, 0L);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenKey key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenKey key, VerifiedToken value, long currentTime,
+                long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
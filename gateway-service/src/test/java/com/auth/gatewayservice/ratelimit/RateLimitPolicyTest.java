@@ -0,0 +1,204 @@
+package com.auth.gatewayservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * GCRA con reloj explícito: cada llamada recibe su propio {@code nowNanos}.
+ */
+class RateLimitPolicyTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void admitsBurstAtOnceThenRejectsWithOneIntervalWait() {
+        // 10 req/s -> un token cada 100 ms
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(policy.tryAcquire("ana", T0)).isZero();
+        }
+        assertThat(policy.tryAcquire("ana", T0)).isEqualTo(100 * MS);
+        assertThat(policy.allowed()).isEqualTo(5);
+        assertThat(policy.rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void steadyStateAdmitsOneRequestPerInterval() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 5);
+        for (int i = 0; i < 5; i++) {
+            policy.tryAcquire("ana", T0);
+        }
+
+        for (int tick = 1; tick <= 20; tick++) {
+            long now = T0 + tick * 100 * MS;
+            assertThat(policy.tryAcquire("ana", now)).as("tick %d", tick).isZero();
+            assertThat(policy.tryAcquire("ana", now)).as("tick %d", tick).isEqualTo(100 * MS);
+        }
+    }
+
+    @Test
+    void returnedWaitIsExactlyWhenTheNextTokenIsAvailable() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 2);
+        policy.tryAcquire("ana", T0);
+        policy.tryAcquire("ana", T0);
+
+        long wait = policy.tryAcquire("ana", T0 + 30 * MS);
+
+        assertThat(wait).isEqualTo(70 * MS);
+        assertThat(policy.tryAcquire("ana", T0 + 30 * MS + wait - 1)).isEqualTo(1);
+        assertThat(policy.tryAcquire("ana", T0 + 30 * MS + wait)).isZero();
+    }
+
+    @Test
+    void rejectedRequestsDoNotConsumeTokens() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 1);
+        policy.tryAcquire("ana", T0);
+
+        for (int i = 0; i < 100; i++) {
+            policy.tryAcquire("ana", T0 + 50 * MS);
+        }
+
+        // Martillear mientras se está limitado no retrasa el siguiente token
+        assertThat(policy.tryAcquire("ana", T0 + 100 * MS)).isZero();
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToBurst() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 3);
+        policy.tryAcquire("ana", T0);
+
+        long later = T0 + TimeUnit.MINUTES.toNanos(10);
+        for (int i = 0; i < 3; i++) {
+            assertThat(policy.tryAcquire("ana", later)).isZero();
+        }
+        assertThat(policy.tryAcquire("ana", later)).isPositive();
+    }
+
+    @Test
+    void principalsHaveIndependentBuckets() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 1, 1);
+
+        assertThat(policy.tryAcquire("ana", T0)).isZero();
+        assertThat(policy.tryAcquire("ana", T0)).isPositive();
+        assertThat(policy.tryAcquire("luis", T0)).isZero();
+    }
+
+    @Test
+    void fractionalRatesUseTheMatchingInterval() {
+        // 0.5 req/s -> un token cada 2 s
+        RateLimitPolicy policy = new RateLimitPolicy("reset", 0.5, 1);
+        policy.tryAcquire("ana", T0);
+
+        assertThat(policy.tryAcquire("ana", T0)).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThatThrownBy(() -> new RateLimitPolicy("x", 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitPolicy("x", -1, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new RateLimitPolicy("x", 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        assertThat(RateLimitPolicy.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimitPolicy.retryAfterSeconds(100 * MS)).isEqualTo(1);
+        assertThat(RateLimitPolicy.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1))).isEqualTo(1);
+        assertThat(RateLimitPolicy.retryAfterSeconds(TimeUnit.SECONDS.toNanos(1) + 1)).isEqualTo(2);
+        assertThat(RateLimitPolicy.retryAfterSeconds(2_500 * MS)).isEqualTo(3);
+    }
+
+    @Test
+    void sweepRemovesOnlyFullBuckets() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 2);
+        policy.tryAcquire("idle", T0);
+        policy.tryAcquire("busy", T0 + 500 * MS);
+        policy.tryAcquire("busy", T0 + 500 * MS);
+
+        // "idle" quedó lleno en T0 + 100 ms; "busy" no hasta T0 + 700 ms
+        assertThat(policy.sweep(T0 + 600 * MS)).isEqualTo(1);
+        assertThat(policy.activeBuckets()).isEqualTo(1);
+
+        // El bucket que sigue activo conserva su estado: solo recuperó un token
+        assertThat(policy.tryAcquire("busy", T0 + 600 * MS)).isZero();
+        assertThat(policy.tryAcquire("busy", T0 + 600 * MS)).isEqualTo(100 * MS);
+    }
+
+    @Test
+    void sweptPrincipalStartsWithAFullBucket() {
+        RateLimitPolicy policy = new RateLimitPolicy("login", 10, 2);
+        policy.tryAcquire("ana", T0);
+        policy.tryAcquire("ana", T0);
+
+        long later = T0 + TimeUnit.SECONDS.toNanos(1);
+        assertThat(policy.sweep(later)).isEqualTo(1);
+
+        assertThat(policy.tryAcquire("ana", later)).isZero();
+        assertThat(policy.tryAcquire("ana", later)).isZero();
+        assertThat(policy.tryAcquire("ana", later)).isPositive();
+    }
+
+    @Test
+    void sweepRacingWithAcquireNeverAdmitsMoreThanBurst() throws Exception {
+        // Reloj fijo: nada se recarga, así que cada principal admite exactamente burst requests.
+        // Un bucket recién creado tiene TAT == now y la limpieza lo considera lleno, de modo
+        // que compite con los primeros tryAcquire sobre ese mismo bucket.
+        int burst = 2;
+        int keys = 100_000;
+        int acquirers = 4;
+        RateLimitPolicy policy = new RateLimitPolicy("login", 1, burst);
+        ExecutorService pool = Executors.newFixedThreadPool(acquirers + 1);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean acquiring = new AtomicBoolean(true);
+            Future<?> sweeper = pool.submit(() -> {
+                await(start);
+                while (acquiring.get()) {
+                    policy.sweep(T0);
+                }
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < acquirers; i++) {
+                workers.add(pool.submit(() -> {
+                    await(start);
+                    for (int k = 0; k < keys; k++) {
+                        for (int attempt = 0; attempt <= burst; attempt++) {
+                            policy.tryAcquire("user-" + k, T0);
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(1, TimeUnit.MINUTES);
+            }
+            acquiring.set(false);
+            sweeper.get(1, TimeUnit.MINUTES);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(policy.allowed()).isEqualTo((long) keys * burst);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
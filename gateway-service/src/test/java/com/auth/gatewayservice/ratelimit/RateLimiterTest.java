@@ -0,0 +1,77 @@
+package com.auth.gatewayservice.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RateLimiterTest {
+
+    private static final long T0 = 1_000_000_000_000L;
+
+    @Test
+    void resolvesTheMostSpecificPolicyForEachPath() {
+        RateLimiter limiter = new RateLimiter(properties(
+                policy("login", "/api/auth/login", 1, 1),
+                policy("api", "/api/**", 50, 100)));
+
+        assertThat(limiter.isEnabled()).isTrue();
+        assertThat(limiter.policyFor("/api/auth/login").name()).isEqualTo("login");
+        assertThat(limiter.policyFor("/api/users/42").name()).isEqualTo("api");
+        assertThat(limiter.policyFor("/swagger-ui.html")).isNull();
+    }
+
+    @Test
+    void policyNameDefaultsToItsPattern() {
+        RateLimiter limiter = new RateLimiter(properties(policy(null, "/api/auth/login", 1, 1)));
+
+        assertThat(limiter.policyFor("/api/auth/login").name()).isEqualTo("/api/auth/login");
+    }
+
+    @Test
+    void isDisabledWithoutPoliciesOrWhenTurnedOff() {
+        assertThat(new RateLimiter(properties()).isEnabled()).isFalse();
+
+        RateLimitProperties off = properties(policy("login", "/api/auth/login", 1, 1));
+        off.setEnabled(false);
+        assertThat(new RateLimiter(off).isEnabled()).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidPolicyAtStartup() {
+        assertThatThrownBy(() -> new RateLimiter(properties(policy("bad", "/api/**", 0, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void sweepVisitsEveryPolicy() {
+        RateLimiter limiter = new RateLimiter(properties(
+                policy("login", "/api/auth/login", 10, 1),
+                policy("api", "/api/**", 10, 1)));
+        limiter.policyFor("/api/auth/login").tryAcquire("ana", T0);
+        limiter.policyFor("/api/users").tryAcquire("ana", T0);
+        limiter.policyFor("/api/users").tryAcquire("luis", T0);
+
+        assertThat(limiter.sweep(T0)).isZero();
+        assertThat(limiter.sweep(T0 + TimeUnit.SECONDS.toNanos(1))).isEqualTo(3);
+        assertThat(limiter.policies()).allSatisfy(policy -> assertThat(policy.activeBuckets()).isZero());
+    }
+
+    private static RateLimitProperties properties(RateLimitProperties.Policy... policies) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setPolicies(List.of(policies));
+        return properties;
+    }
+
+    private static RateLimitProperties.Policy policy(String name, String pattern, double rate, int burst) {
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setName(name);
+        policy.setPattern(pattern);
+        policy.setRatePerSecond(rate);
+        policy.setBurst(burst);
+        return policy;
+    }
+}
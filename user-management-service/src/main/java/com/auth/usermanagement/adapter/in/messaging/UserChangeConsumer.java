@@ -0,0 +1,47 @@
+package com.auth.usermanagement.adapter.in.messaging;
+
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+import com.auth.usermanagement.domain.port.out.AuthorizationIndexPort;
+import com.common.shared.application.dto.UserChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class UserChangeConsumer {
+
+    private final AuthorizationIndexPort authorizationIndexPort;
+
+    /**
+     * Cambios publicados por cualquier instancia de user-management (incluida
+     * esta). Sin grupo en el binding: todas reciben cada evento y mantienen al
+     * día su índice de autorización.
+     */
+    @Bean
+    public Consumer<UserChangeEvent> userChangeConsumer() {
+        return event -> {
+            if (event == null || event.type() == null) {
+                return;
+            }
+            log.debug("Cambio de usuario recibido: {}", event);
+
+            if (event.affectsAllUsers()) {
+                authorizationIndexPort.authorizationChanged();
+                return;
+            }
+            if (event.userId() != null) {
+                try {
+                    authorizationIndexPort.userChanged(new UserId(UUID.fromString(event.userId())));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Evento de usuario con id inválido: {}", event.userId());
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.auth.usermanagement.adapter.in.web.controller.internal;
+
+import com.auth.usermanagement.adapter.in.web.request.AuthorizationRequest;
+import com.auth.usermanagement.application.dto.out.AuthorizationResponse;
+import com.auth.usermanagement.domain.port.in.AuthorizeUseCase;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/internal/authorize")
+@RequiredArgsConstructor
+@Tag(name = "API de Autorización Interna", description = "Decisiones de permisos resueltas en memoria")
+public class InternalAuthorizationController {
+
+    private final AuthorizeUseCase authorizeUseCase;
+
+    @Operation(summary = "Comprobar un permiso", description = "¿Tiene el usuario el permiso indicado?")
+    @GetMapping
+    public ResponseEntity<AuthorizationResponse> check(@RequestParam UUID userId, @RequestParam String permission) {
+        return ResponseEntity.ok(authorizeUseCase.authorize(new AuthorizationRequest(userId, List.of(permission))));
+    }
+
+    @Operation(summary = "Comprobar permisos de un usuario", description = "Una decisión por permiso solicitado")
+    @PostMapping
+    public ResponseEntity<AuthorizationResponse> authorize(@Valid @RequestBody AuthorizationRequest request) {
+        return ResponseEntity.ok(authorizeUseCase.authorize(request));
+    }
+
+    @Operation(summary = "Comprobar permisos en lote", description = "Varios usuarios en una sola llamada")
+    @PostMapping("/batch")
+    public ResponseEntity<List<AuthorizationResponse>> authorizeAll(
+            @Valid @RequestBody List<@Valid AuthorizationRequest> requests) {
+        return ResponseEntity.ok(authorizeUseCase.authorizeAll(requests));
+    }
+}
@@ -0,0 +1,27 @@
+package com.auth.usermanagement.adapter.in.web.controller.internal;
+
+import com.auth.usermanagement.domain.port.in.GetPermissionDictionaryUseCase;
+import com.common.shared.application.dto.PermissionDictionaryResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/internal/permissions")
+@RequiredArgsConstructor
+@Tag(name = "API de Permisos Internos", description = "Endpoints internos para comunicación entre microservicios")
+public class InternalPermissionController {
+
+    private final GetPermissionDictionaryUseCase getPermissionDictionaryUseCase;
+
+    @Operation(summary = "Diccionario de permisos", description = "Índices del claim compacto de permisos del JWT")
+    @GetMapping("/dictionary")
+    public ResponseEntity<PermissionDictionaryResponse> dictionary() {
+        return ResponseEntity.ok(getPermissionDictionaryUseCase.execute());
+    }
+}
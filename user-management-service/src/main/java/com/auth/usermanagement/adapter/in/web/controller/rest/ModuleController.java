@@ -1,10 +1,12 @@
 package com.auth.usermanagement.adapter.in.web.controller.rest;
 
+import com.auth.usermanagement.adapter.in.web.export.NdjsonExporter;
 import com.auth.usermanagement.adapter.in.web.request.CreateModuleRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdateModuleRequest;
 import com.auth.usermanagement.application.dto.out.ModuleResponse;
 import com.auth.usermanagement.domain.port.in.ModuleUseCasePort;
 import com.common.shared.application.dto.AuditMessage;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 import com.common.shared.domain.exception.ErrorResponse;
 import com.common.shared.infrastructure.messaging.MessagePublisher;
@@ -19,8 +21,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -41,6 +45,7 @@ public class ModuleController {
 
         private final ModuleUseCasePort moduleUseCasePort;
         private final MessagePublisher messagePublisher;
+        private final NdjsonExporter ndjsonExporter;
 
         @Operation(summary = "Crear módulo")
         @ApiResponses({
@@ -160,4 +165,24 @@ public class ModuleController {
                 PaginatedResponse<ModuleResponse> result = moduleUseCasePort.search(name, page, size);
                 return ResponseEntity.ok(result);
         }
+
+        @Operation(summary = "Buscar módulos (por cursor)", description = "Paginación sin totales: cursor = nextCursor de la respuesta anterior (vacío en la primera página), size = elementos por página.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Resultados de la búsqueda", content = @Content(schema = @Schema(implementation = CursorPaginatedResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Parámetros o cursor inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/search/scroll")
+        public ResponseEntity<CursorPaginatedResponse<ModuleResponse>> scroll(
+                        @Parameter(description = "name: filtro por nombre (opcional)") @RequestParam(required = false) String name,
+                        @Parameter(description = "cursor: nextCursor de la página anterior (opcional)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "size: tamaño de página") @RequestParam(defaultValue = "10") int size) {
+                return ResponseEntity.ok(moduleUseCasePort.scroll(name, cursor, size));
+        }
+
+        @Operation(summary = "Exportar módulos", description = "Todos los módulos como NDJSON (un objeto por línea), leídos con un cursor de base de datos y escritos a medida que llegan; no carga la tabla en memoria.")
+        @ApiResponse(responseCode = "200", description = "Flujo NDJSON", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = ModuleResponse.class)))
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> export() {
+                return ndjsonExporter.export(moduleUseCasePort::exportAll);
+        }
 }
@@ -1,10 +1,12 @@
 package com.auth.usermanagement.adapter.in.web.controller.rest;
 
+import com.auth.usermanagement.adapter.in.web.export.NdjsonExporter;
 import com.auth.usermanagement.adapter.in.web.request.CreatePermissionRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdatePermissionRequest;
 import com.auth.usermanagement.application.dto.out.PermissionResponse;
 import com.auth.usermanagement.domain.port.in.PermissionUseCasePort;
 import com.common.shared.application.dto.AuditMessage;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 import com.common.shared.domain.exception.ErrorResponse;
 import com.common.shared.infrastructure.messaging.MessagePublisher;
@@ -18,8 +20,10 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
 
 import java.time.LocalDateTime;
@@ -35,6 +39,7 @@ public class PermissionController {
 
     private final PermissionUseCasePort permissionUseCasePort;
     private final MessagePublisher messagePublisher;
+    private final NdjsonExporter ndjsonExporter;
 
     @Operation(summary = "Crear nuevo permiso", description = "Registra un permiso y lo vincula a un módulo existente.")
     @ApiResponses({
@@ -159,4 +164,24 @@ public class PermissionController {
         PaginatedResponse<PermissionResponse> result = permissionUseCasePort.search(name, page, size);
         return ResponseEntity.ok(result);
     }
+
+    @Operation(summary = "Búsqueda de permisos por cursor", description = "Sin totales: enviar en cursor el nextCursor de la respuesta anterior.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultados"),
+            @ApiResponse(responseCode = "400", description = "Parámetros o cursor inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/search/scroll")
+    public ResponseEntity<CursorPaginatedResponse<PermissionResponse>> scroll(
+            @Parameter(description = "Nombre o parte del nombre del permiso") @RequestParam(required = false) String name,
+            @Parameter(description = "nextCursor de la página anterior (vacío = primera página)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Elementos por página") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(permissionUseCasePort.scroll(name, cursor, size));
+    }
+
+    @Operation(summary = "Exportar permisos", description = "Todos los permisos como NDJSON (un objeto por línea), leídos con un cursor de base de datos y escritos a medida que llegan; no carga la tabla en memoria.")
+    @ApiResponse(responseCode = "200", description = "Flujo NDJSON", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = PermissionResponse.class)))
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ndjsonExporter.export(permissionUseCasePort::exportAll);
+    }
 }
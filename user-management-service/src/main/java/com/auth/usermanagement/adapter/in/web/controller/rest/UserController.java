@@ -1,10 +1,12 @@
 package com.auth.usermanagement.adapter.in.web.controller.rest;
 
 import com.common.shared.application.dto.AuditMessage;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 import com.common.shared.domain.exception.ErrorResponse;
 import com.common.shared.domain.model.Status;
 import com.common.shared.infrastructure.messaging.MessagePublisher;
+import com.auth.usermanagement.adapter.in.web.export.NdjsonExporter;
 import com.auth.usermanagement.adapter.in.web.request.CreateUserRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdateUserRequest;
 import com.auth.usermanagement.application.dto.out.UserResponse;
@@ -19,10 +21,13 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -44,6 +49,10 @@ public class UserController {
 
         private final UserUseCasePort userUseCasePort;
         private final MessagePublisher messagePublisher;
+        private final NdjsonExporter ndjsonExporter;
+
+        // Tope de GET /api/users: el listado completo va por /export
+        private static final int LIST_LIMIT = 1000;
 
         @PreAuthorize("hasAuthority('WRITE_PRIVILEGES') or hasRole('ADMIN')")
         @Operation(summary = "Crear usuario")
@@ -147,14 +156,20 @@ public class UserController {
         }
 
         @PreAuthorize("hasAuthority('READ_PRIVILEGES') or hasRole('ADMIN')")
-        @Operation(summary = "Listar todos los usuarios")
+        @Operation(summary = "Listar usuarios", deprecated = true, description = "Devuelve como máximo " + LIST_LIMIT + " usuarios (X-Result-Truncated: true si hay más). Usar /api/users/export o /api/users/search/scroll.")
         @ApiResponses({
                         @ApiResponse(responseCode = "200", description = "Listado devuelto")
         })
         @GetMapping
         public ResponseEntity<List<UserResponse>> findAll() {
-                List<UserResponse> list = userUseCasePort.findAll();
-                return ResponseEntity.ok(list);
+                // Una fila de más para saber si el listado se recortó
+                List<UserResponse> list = userUseCasePort.findAll(LIST_LIMIT + 1);
+                boolean truncated = list.size() > LIST_LIMIT;
+                return ResponseEntity.ok()
+                                .header("Deprecation", "true")
+                                .header(HttpHeaders.LINK, "</api/users/export>; rel=\"alternate\"")
+                                .header("X-Result-Truncated", String.valueOf(truncated))
+                                .body(truncated ? list.subList(0, LIST_LIMIT) : list);
         }
 
         @PreAuthorize("hasAuthority('WRITE_PRIVILEGES') or hasRole('ADMIN')")
@@ -223,4 +238,36 @@ public class UserController {
                 PaginatedResponse<UserResponse> result = userUseCasePort.search(email, s, page, size);
                 return ResponseEntity.ok(result);
         }
-}
\ No newline at end of file
+
+        @PreAuthorize("hasAuthority('READ_PRIVILEGES') or hasRole('ADMIN')")
+        @Operation(summary = "Buscar usuarios (por cursor)", description = "Mismos filtros que /search pero sin totales: cursor = nextCursor de la respuesta anterior (vacío en la primera página), size = elementos por página.")
+        @ApiResponses({
+                        @ApiResponse(responseCode = "200", description = "Resultados de la búsqueda", content = @Content(schema = @Schema(implementation = CursorPaginatedResponse.class))),
+                        @ApiResponse(responseCode = "400", description = "Parámetros o cursor inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+        })
+        @GetMapping("/search/scroll")
+        public ResponseEntity<CursorPaginatedResponse<UserResponse>> scroll(
+                        @Parameter(description = "email: filtro por email o userId (opcional)") @RequestParam(required = false) String email,
+                        @Parameter(description = "status: ACTIVO | INACTIVO (opcional)") @RequestParam(required = false) String status,
+                        @Parameter(description = "cursor: nextCursor de la página anterior (opcional)") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "size: tamaño de página") @RequestParam(defaultValue = "10") int size) {
+                Status s = null;
+                if (status != null && !status.isBlank()) {
+                        try {
+                                s = Status.valueOf(status.toUpperCase());
+                        } catch (IllegalArgumentException ex) {
+                                return ResponseEntity.badRequest().build();
+                        }
+                }
+
+                return ResponseEntity.ok(userUseCasePort.scroll(email, s, cursor, size));
+        }
+
+        @PreAuthorize("hasAuthority('READ_PRIVILEGES') or hasRole('ADMIN')")
+        @Operation(summary = "Exportar usuarios", description = "Todos los usuarios como NDJSON (un objeto por línea), leídos con un cursor de base de datos y escritos a medida que llegan; no carga la tabla en memoria.")
+        @ApiResponse(responseCode = "200", description = "Flujo NDJSON", content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = UserResponse.class)))
+        @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+        public ResponseEntity<StreamingResponseBody> export() {
+                return ndjsonExporter.export(userUseCasePort::exportAll);
+        }
+}
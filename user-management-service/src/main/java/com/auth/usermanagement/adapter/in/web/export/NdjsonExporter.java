@@ -0,0 +1,130 @@
+package com.auth.usermanagement.adapter.in.web.export;
+
+import com.common.shared.domain.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Escribe exportaciones como NDJSON (un objeto JSON por línea) a medida que
+ * llegan las filas, sin construir la lista completa en memoria.
+ *
+ * El cuerpo se genera en un hilo async de MVC (spring.mvc.async.request-timeout)
+ * y la fuente mantiene una conexión JDBC abierta mientras el cliente lee. Por
+ * eso las exportaciones simultáneas se limitan a
+ * {@code application.export.max-concurrent}: el resto recibe 503 y el pool
+ * sigue libre para el login y las demás lecturas.
+ *
+ * El permiso se toma en el hilo de la request (para poder responder 503) y se
+ * libera una sola vez: al terminar el cuerpo, al completarse, expirar o fallar
+ * la request async, o al acabar la request si el cuerpo nunca llegó a lanzarse.
+ */
+@Component
+public class NdjsonExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long RETRY_AFTER_SECONDS = 30;
+    private static final String PERMIT_CALLBACK = NdjsonExporter.class.getName() + ".permit";
+
+    private final JsonMapper jsonMapper;
+    private final Semaphore permits;
+
+    public NdjsonExporter(JsonMapper jsonMapper,
+            @Value("${application.export.max-concurrent:2}") int maxConcurrent) {
+        this.jsonMapper = jsonMapper;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * @param source recibe el sink y le entrega cada elemento a exportar
+     * @throws ServiceOverloadedException si ya hay {@code max-concurrent}
+     *                                    exportaciones en curso
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(Consumer<Consumer<T>> source) {
+        if (!permits.tryAcquire()) {
+            throw new ServiceOverloadedException("Demasiadas exportaciones en curso", RETRY_AFTER_SECONDS);
+        }
+        Permit permit = new Permit();
+        try {
+            releaseWithRequest(permit);
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+        StreamingResponseBody body = outputStream -> {
+            try {
+                OutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+                source.accept(item -> write(out, item));
+                out.flush();
+            } finally {
+                permit.release();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Respaldo para cuando el cuerpo no se ejecuta: executor que rechaza la
+     * tarea, timeout o cancelación antes de empezar, o un fallo antes de
+     * iniciar el procesamiento async.
+     */
+    private void releaseWithRequest(Permit permit) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(attributes.getRequest());
+        asyncManager.registerCallableInterceptor(permit, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                permit.release();
+            }
+        });
+        // Al volver el hilo inicial: si no se inició el async, el interceptor nunca se llamará
+        attributes.registerDestructionCallback(PERMIT_CALLBACK, () -> {
+            if (!asyncManager.isConcurrentHandlingStarted()) {
+                permit.release();
+            }
+        }, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private void write(OutputStream out, Object item) {
+        try {
+            out.write(jsonMapper.writeValueAsBytes(item));
+            out.write('\n');
+        } catch (IOException e) {
+            // Normalmente el cliente cerró la conexión: corta el cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Permiso de exportación que se devuelve al semáforo una sola vez. */
+    private final class Permit {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        }
+    }
+}
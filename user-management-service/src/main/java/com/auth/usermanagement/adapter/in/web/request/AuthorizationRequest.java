@@ -0,0 +1,13 @@
+package com.auth.usermanagement.adapter.in.web.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AuthorizationRequest(
+                @NotNull(message = "El userId es obligatorio") UUID userId,
+                @NotEmpty(message = "Debe indicar al menos un permiso") List<@NotBlank String> permissions) {
+}
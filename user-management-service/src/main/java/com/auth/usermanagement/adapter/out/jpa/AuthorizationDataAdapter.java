@@ -0,0 +1,119 @@
+package com.auth.usermanagement.adapter.out.jpa;
+
+import com.auth.usermanagement.adapter.out.jpa.projection.RoleGrantRow;
+import com.auth.usermanagement.adapter.out.jpa.projection.UserGrantRow;
+import com.auth.usermanagement.adapter.out.jpa.repository.PermissionRepository;
+import com.auth.usermanagement.adapter.out.jpa.repository.RoleRepository;
+import com.auth.usermanagement.adapter.out.jpa.repository.UserRepository;
+import com.auth.usermanagement.domain.model.authorization.PermissionRef;
+import com.auth.usermanagement.domain.model.authorization.RoleGrants;
+import com.auth.usermanagement.domain.model.authorization.UserGrants;
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+import com.auth.usermanagement.domain.port.out.AuthorizationDataPort;
+import com.common.shared.domain.exception.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthorizationDataAdapter implements AuthorizationDataPort {
+
+    private final PermissionRepository permissionRepository;
+    private final RoleRepository roleRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PermissionRef> loadPermissions() {
+        try {
+            return permissionRepository.findAllKeys().stream()
+                    .map(row -> new PermissionRef(row.permissionId(), row.name()))
+                    .toList();
+        } catch (Exception e) {
+            log.error("Error al cargar permisos para el índice: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al cargar permisos para el índice", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<PermissionRef> loadPermission(PermissionId id) {
+        try {
+            return permissionRepository.findById(id.id())
+                    .map(p -> new PermissionRef(p.getPermissionId(), p.getName()));
+        } catch (Exception e) {
+            log.error("Error al cargar permiso {} para el índice: {}", id, e.getMessage(), e);
+            throw new PersistenceException("Error al cargar permiso para el índice", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RoleGrants> loadRoleGrants() {
+        try {
+            return fold(roleRepository.findAllGrants());
+        } catch (Exception e) {
+            log.error("Error al cargar permisos de roles para el índice: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al cargar permisos de roles para el índice", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RoleGrants> loadRoleGrants(RoleId id) {
+        try {
+            return fold(roleRepository.findGrantsByRoleId(id.id())).stream().findFirst();
+        } catch (Exception e) {
+            log.error("Error al cargar permisos del rol {} para el índice: {}", id, e.getMessage(), e);
+            throw new PersistenceException("Error al cargar permisos del rol para el índice", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserGrants> loadUserGrants(UserId id) {
+        try {
+            List<UserGrantRow> rows = userRepository.findGrantsByUserId(id.id());
+            if (rows.isEmpty()) {
+                return Optional.empty();
+            }
+            Set<UUID> roleIds = new HashSet<>();
+            for (UserGrantRow row : rows) {
+                if (row.roleId() != null) {
+                    roleIds.add(row.roleId());
+                }
+            }
+            return Optional.of(new UserGrants(id.id(), rows.get(0).enabled(), roleIds));
+        } catch (Exception e) {
+            log.error("Error al cargar roles del usuario {} para el índice: {}", id, e.getMessage(), e);
+            throw new PersistenceException("Error al cargar roles del usuario para el índice", e);
+        }
+    }
+
+    private static List<RoleGrants> fold(List<RoleGrantRow> rows) {
+        Map<UUID, Set<UUID>> byRole = new LinkedHashMap<>();
+        for (RoleGrantRow row : rows) {
+            Set<UUID> permissions = byRole.computeIfAbsent(row.roleId(), id -> new HashSet<>());
+            if (row.permissionId() != null) {
+                permissions.add(row.permissionId());
+            }
+        }
+        List<RoleGrants> result = new ArrayList<>(byRole.size());
+        byRole.forEach((roleId, permissions) -> result.add(new RoleGrants(roleId, permissions)));
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+package com.auth.usermanagement.adapter.out.jpa;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Recorre un cursor de entidades con memoria constante: mapea por bloques y
+ * vacía el contexto de persistencia tras cada uno.
+ *
+ * Mapear el bloque entero de una vez permite que las relaciones LAZY pendientes
+ * se carguen juntas (hibernate.default_batch_fetch_size) y no fila a fila. Debe
+ * llamarse dentro de la transacción que abrió el cursor.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkedStreamReader {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    public <E, D> void forEach(Stream<E> rows, Function<E, D> mapper, Consumer<D> consumer) {
+        List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (rows) {
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    emit(chunk, mapper, consumer);
+                }
+            }
+        }
+        emit(chunk, mapper, consumer);
+    }
+
+    private <E, D> void emit(List<E> chunk, Function<E, D> mapper, Consumer<D> consumer) {
+        chunk.forEach(entity -> consumer.accept(mapper.apply(entity)));
+        chunk.clear();
+        entityManager.clear();
+    }
+}
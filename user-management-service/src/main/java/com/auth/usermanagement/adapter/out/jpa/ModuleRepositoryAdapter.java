@@ -8,14 +8,19 @@ import com.auth.usermanagement.domain.model.module.ModuleDomain;
 import com.auth.usermanagement.domain.model.module.vo.ModuleId;
 import com.auth.usermanagement.domain.port.out.ModuleRepositoryPort;
 import com.common.shared.domain.model.Status;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -24,6 +29,7 @@ import java.util.stream.Collectors;
 public class ModuleRepositoryAdapter implements ModuleRepositoryPort {
 
     private final ModuleRepository moduleRepository;
+    private final ChunkedStreamReader chunkedStreamReader;
 
     @Override
     public ModuleDomain save(ModuleDomain domain) {
@@ -125,4 +131,26 @@ public class ModuleRepositoryAdapter implements ModuleRepositoryPort {
             throw new PersistenceException("Error al buscar módulos por nombre", e);
         }
     }
+
+    @Override
+    public CursorPaginatedResponse<ModuleDomain> scrollByName(String name, CursorPosition after, int size) {
+        try {
+            String qname = name == null || name.isBlank() ? null : name.trim();
+            Limit limit = Limit.of(size + 1);
+            List<Module> rows = after == null
+                    ? moduleRepository.scrollFirstByName(qname, limit)
+                    : moduleRepository.scrollByName(qname, after.sortKey(), after.id(), limit);
+            return CursorPaginatedResponse.of(rows, size, e -> new CursorPosition(e.getCreatedAt(), e.getModuleId()))
+                    .map(ModuleJPAMapper::toDomain);
+        } catch (Exception e) {
+            log.error("Error al paginar módulos por nombre='{}': {}", name, e.getMessage(), e);
+            throw new PersistenceException("Error al paginar módulos", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ModuleDomain> consumer) {
+        chunkedStreamReader.forEach(moduleRepository.streamAll(), ModuleJPAMapper::toDomain, consumer);
+    }
 }
@@ -0,0 +1,74 @@
+package com.auth.usermanagement.adapter.out.jpa;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.PermissionDictionaryEntry;
+import com.auth.usermanagement.adapter.out.jpa.repository.PermissionDictionaryRepository;
+import com.auth.usermanagement.domain.port.out.PermissionDictionaryPort;
+import com.common.shared.domain.exception.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionDictionaryAdapter implements PermissionDictionaryPort {
+
+    private final PermissionDictionaryRepository dictionaryRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> loadNames() {
+        try {
+            return dictionaryRepository.findAllNamesOrderByBitIndex();
+        } catch (Exception e) {
+            log.error("Error al leer el diccionario de permisos: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al leer el diccionario de permisos", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void register(Collection<String> names) {
+        // Orden alfabético entre los nuevos: el backfill inicial reproduce los
+        // índices del diccionario ordenado anterior
+        TreeSet<String> candidates = new TreeSet<>();
+        for (String name : names) {
+            if (name != null && !name.isBlank()) {
+                candidates.add(name);
+            }
+        }
+        if (candidates.isEmpty() || new HashSet<>(loadNames()).containsAll(candidates)) {
+            return;
+        }
+        try {
+            dictionaryRepository.lockForAppend();
+            Set<String> known = new HashSet<>(dictionaryRepository.findAllNamesOrderByBitIndex());
+            int next = dictionaryRepository.findMaxBitIndex() + 1;
+            Instant now = Instant.now();
+            List<PermissionDictionaryEntry> entries = new ArrayList<>();
+            for (String name : candidates) {
+                if (!known.contains(name)) {
+                    entries.add(PermissionDictionaryEntry.builder()
+                            .bitIndex(next++)
+                            .permissionName(name)
+                            .createdAt(now)
+                            .build());
+                }
+            }
+            dictionaryRepository.saveAll(entries);
+            log.info("Diccionario de permisos ampliado con {} nombres", entries.size());
+        } catch (Exception e) {
+            log.error("Error al ampliar el diccionario de permisos: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al ampliar el diccionario de permisos", e);
+        }
+    }
+}
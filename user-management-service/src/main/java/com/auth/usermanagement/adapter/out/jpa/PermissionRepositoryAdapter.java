@@ -10,8 +10,11 @@ import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
 import com.auth.usermanagement.domain.model.permission.vo.PermissionName;
 import com.auth.usermanagement.domain.port.out.PermissionRepositoryPort;
 import com.common.shared.domain.model.Status;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +32,7 @@ public class PermissionRepositoryAdapter implements PermissionRepositoryPort {
 
     private final PermissionRepository permissionRepository;
     private final ModuleRepository moduleRepository;
+    private final ChunkedStreamReader chunkedStreamReader;
 
     @Override
     @Transactional
@@ -89,6 +94,16 @@ public class PermissionRepositoryAdapter implements PermissionRepositoryPort {
         }
     }
 
+    @Override
+    public List<String> findAllNames() {
+        try {
+            return permissionRepository.findAllNames();
+        } catch (Exception e) {
+            log.error("Error al obtener los nombres de permisos: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al obtener los nombres de permisos", e);
+        }
+    }
+
     @Override
     public void deleteById(PermissionId id) {
         try {
@@ -140,4 +155,26 @@ public class PermissionRepositoryAdapter implements PermissionRepositoryPort {
             throw new PersistenceException("Error al buscar permisos por nombre", e);
         }
     }
+
+    @Override
+    public CursorPaginatedResponse<PermissionDomain> scrollByName(String name, CursorPosition after, int size) {
+        try {
+            String qname = name == null || name.isBlank() ? null : name.trim();
+            Limit limit = Limit.of(size + 1);
+            List<Permission> rows = after == null
+                    ? permissionRepository.scrollFirstByName(qname, limit)
+                    : permissionRepository.scrollByName(qname, after.sortKey(), after.id(), limit);
+            return CursorPaginatedResponse.of(rows, size, e -> new CursorPosition(e.getCreatedAt(), e.getPermissionId()))
+                    .map(PermissionJPAMapper::toDomain);
+        } catch (Exception e) {
+            log.error("Error al paginar permisos por nombre='{}': {}", name, e.getMessage(), e);
+            throw new PersistenceException("Error al paginar permisos", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<PermissionDomain> consumer) {
+        chunkedStreamReader.forEach(permissionRepository.streamAll(), PermissionJPAMapper::toDomain, consumer);
+    }
 }
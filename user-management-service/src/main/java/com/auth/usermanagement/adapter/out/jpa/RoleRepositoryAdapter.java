@@ -10,8 +10,11 @@ import com.auth.usermanagement.domain.model.role.vo.RoleId;
 import com.auth.usermanagement.domain.model.role.vo.RoleName;
 import com.auth.usermanagement.domain.port.out.RoleRepositoryPort;
 import com.common.shared.domain.model.Status;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -19,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +32,7 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
 
     private final RoleRepository roleRepository;
     private final PermissionRepository permissionRepository;
+    private final ChunkedStreamReader chunkedStreamReader;
 
     @Override
     @Transactional
@@ -71,6 +76,16 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         }
     }
 
+    @Override
+    public Optional<RoleDomain> findByIdForUpdate(RoleId id) {
+        try {
+            return roleRepository.findByIdForUpdate(id.id()).map(RoleJPAMapper::toDomain);
+        } catch (Exception e) {
+            log.error("Error al bloquear rol por id {}: {}", id, e.getMessage(), e);
+            throw new PersistenceException("Error al bloquear rol por id", e);
+        }
+    }
+
     @Override
     public Optional<RoleDomain> findByName(RoleName name) {
         try {
@@ -152,4 +167,25 @@ public class RoleRepositoryAdapter implements RoleRepositoryPort {
         }
     }
 
+    @Override
+    public CursorPaginatedResponse<RoleDomain> scrollByName(String name, CursorPosition after, int size) {
+        try {
+            String qname = name == null || name.isBlank() ? null : name.trim();
+            Limit limit = Limit.of(size + 1);
+            List<Role> rows = after == null
+                    ? roleRepository.scrollFirstByName(qname, limit)
+                    : roleRepository.scrollByName(qname, after.sortKey(), after.id(), limit);
+            return CursorPaginatedResponse.of(rows, size, e -> new CursorPosition(e.getCreatedAt(), e.getRoleId()))
+                    .map(RoleJPAMapper::toDomain);
+        } catch (Exception e) {
+            log.error("Error al paginar roles por nombre='{}': {}", name, e.getMessage(), e);
+            throw new PersistenceException("Error al paginar roles", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<RoleDomain> consumer) {
+        chunkedStreamReader.forEach(roleRepository.streamAll(), RoleJPAMapper::toDomain, consumer);
+    }
 }
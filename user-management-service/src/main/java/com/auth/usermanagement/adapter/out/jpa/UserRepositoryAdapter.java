@@ -2,8 +2,12 @@ package com.auth.usermanagement.adapter.out.jpa;
 
 import com.auth.usermanagement.adapter.out.jpa.entity.User;
 import com.auth.usermanagement.adapter.out.jpa.mapper.UserJPAMapper;
+import com.auth.usermanagement.adapter.out.jpa.mapper.UserSecurityMapper;
 import com.auth.usermanagement.adapter.out.jpa.repository.RoleRepository;
 import com.auth.usermanagement.adapter.out.jpa.repository.UserRepository;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
+import com.common.shared.application.dto.UserSecurityResponse;
 import com.common.shared.domain.exception.PersistenceException;
 import com.auth.usermanagement.domain.model.user.UserDomain;
 import com.auth.usermanagement.domain.model.user.vo.UserEmail;
@@ -12,6 +16,7 @@ import com.auth.usermanagement.domain.port.out.UserRepositoryPort;
 import com.common.shared.domain.model.Status;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -19,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +34,7 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
+    private final ChunkedStreamReader chunkedStreamReader;
 
     @Override
     @Transactional
@@ -95,9 +102,23 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
     }
 
     @Override
-    public List<UserDomain> findAll() {
+    @Transactional(readOnly = true)
+    public Optional<UserSecurityResponse> findSecurityByEmail(UserEmail email) {
         try {
-            return userRepository.findAll().stream().map(UserJPAMapper::toDomain).collect(Collectors.toList());
+            return UserSecurityMapper.fold(userRepository.findAuthRowsByEmail(email.value()))
+                    .stream()
+                    .findFirst();
+        } catch (Exception e) {
+            log.error("Error al buscar credenciales por email {}: {}", email, e.getMessage(), e);
+            throw new PersistenceException("Error al buscar credenciales por email", e);
+        }
+    }
+
+    @Override
+    public List<UserDomain> findAll(int limit) {
+        try {
+            return userRepository.findFirstOrdered(Limit.of(limit)).stream().map(UserJPAMapper::toDomain)
+                    .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("Error al obtener todos los usuarios: {}", e.getMessage(), e);
             throw new PersistenceException("Error al obtener todos los usuarios", e);
@@ -155,4 +176,27 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
             throw new PersistenceException("Error al buscar usuarios", e);
         }
     }
+
+    @Override
+    public CursorPaginatedResponse<UserDomain> scrollByUsernameOrUserId(String email, Status status,
+            CursorPosition after, int size) {
+        try {
+            String qemail = email == null || email.isBlank() ? null : email.trim().toLowerCase();
+            Limit limit = Limit.of(size + 1);
+            List<User> rows = after == null
+                    ? userRepository.scrollFirstByUsernameOrUserId(qemail, status, limit)
+                    : userRepository.scrollByUsernameOrUserId(qemail, status, after.sortKey(), after.id(), limit);
+            return CursorPaginatedResponse.of(rows, size, u -> new CursorPosition(u.getCreatedAt(), u.getUserId()))
+                    .map(UserJPAMapper::toDomain);
+        } catch (Exception e) {
+            log.error("Error al paginar usuarios con email='{}' status='{}': {}", email, status, e.getMessage(), e);
+            throw new PersistenceException("Error al paginar usuarios", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserDomain> consumer) {
+        chunkedStreamReader.forEach(userRepository.streamAll(), UserJPAMapper::toDomain, consumer);
+    }
 }
@@ -0,0 +1,146 @@
+package com.auth.usermanagement.adapter.out.jpa;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.UserSecuritySnapshot;
+import com.auth.usermanagement.adapter.out.jpa.mapper.UserSecurityMapper;
+import com.auth.usermanagement.adapter.out.jpa.repository.UserRepository;
+import com.auth.usermanagement.adapter.out.jpa.repository.UserSecuritySnapshotRepository;
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserEmail;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+import com.auth.usermanagement.domain.port.out.UserSecuritySnapshotPort;
+import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.domain.exception.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Mantiene user_security_snapshot recalculando solo los usuarios afectados por
+ * cada cambio, con la misma proyección de una consulta que usa el login.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserSecuritySnapshotAdapter implements UserSecuritySnapshotPort {
+
+    // Acota el IN (...) de la proyección al recalcular todos los usuarios de un rol
+    private static final int BATCH_SIZE = 500;
+
+    private final UserSecuritySnapshotRepository snapshotRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserSecurityResponse> findByEmail(UserEmail email) {
+        try {
+            return snapshotRepository.findById(email.value()).map(UserSecurityMapper::toResponse);
+        } catch (Exception e) {
+            log.error("Error al leer snapshot de seguridad de {}: {}", email, e.getMessage(), e);
+            throw new PersistenceException("Error al leer snapshot de seguridad", e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void refreshUser(UserId id) {
+        refresh(List.of(id.id()));
+    }
+
+    @Override
+    @Transactional
+    public void refreshUsersWithRole(RoleId id) {
+        refresh(userRepository.findUserIdsByRoleId(id.id()));
+    }
+
+    @Override
+    @Transactional
+    public void refreshUsersWithPermission(PermissionId id) {
+        refresh(userRepository.findUserIdsByPermissionId(id.id()));
+    }
+
+    @Override
+    @Transactional
+    public int rebuildMissing() {
+        List<UUID> missing = snapshotRepository.findUserIdsWithoutSnapshot();
+        refresh(missing);
+        return missing.size();
+    }
+
+    @Override
+    public int reconcileAll() {
+        List<UUID> userIds = userRepository.findAllUserIds();
+        int fixed = 0;
+        for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+            List<UUID> batch = userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()));
+            try {
+                // Una transacción por lote: no retiene la tabla entera bloqueada ni en memoria
+                Integer batchFixed = transactionTemplate.execute(status -> reconcile(batch));
+                fixed += batchFixed != null ? batchFixed : 0;
+            } catch (Exception e) {
+                // p.ej. deadlock con un cambio en curso: el lote se revisa en la próxima pasada
+                log.warn("No se pudo reconciliar un lote de snapshots de seguridad: {}", e.getMessage());
+            }
+        }
+        return fixed;
+    }
+
+    private int reconcile(List<UUID> batch) {
+        // Primero el bloqueo y después la lectura: un cambio que ya hizo commit se
+        // ve, y uno en curso escribe su versión después de esta
+        Map<UUID, UserSecuritySnapshot> current = snapshotRepository.lockAllByUserIdIn(batch).stream()
+                .collect(Collectors.toMap(UserSecuritySnapshot::getUserId, Function.identity()));
+        Instant now = Instant.now();
+        int fixed = 0;
+        for (UserSecurityResponse user : UserSecurityMapper.fold(userRepository.findAuthRowsByUserIds(batch))) {
+            UserSecuritySnapshot existing = current.get(UUID.fromString(user.userId()));
+            if (existing == null || !UserSecurityMapper.matches(existing, user)) {
+                upsert(existing, user, now);
+                fixed++;
+            }
+        }
+        return fixed;
+    }
+
+    private void refresh(List<UUID> userIds) {
+        try {
+            for (int from = 0; from < userIds.size(); from += BATCH_SIZE) {
+                List<UUID> batch = userIds.subList(from, Math.min(from + BATCH_SIZE, userIds.size()));
+                Map<UUID, UserSecuritySnapshot> current = snapshotRepository.findAllByUserIdIn(batch).stream()
+                        .collect(Collectors.toMap(UserSecuritySnapshot::getUserId, Function.identity()));
+                Instant now = Instant.now();
+                for (UserSecurityResponse user : UserSecurityMapper.fold(userRepository.findAuthRowsByUserIds(batch))) {
+                    upsert(current.get(UUID.fromString(user.userId())), user, now);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error al actualizar snapshots de seguridad: {}", e.getMessage(), e);
+            throw new PersistenceException("Error al actualizar snapshots de seguridad", e);
+        }
+    }
+
+    private void upsert(UserSecuritySnapshot existing, UserSecurityResponse user, Instant now) {
+        if (existing != null && existing.getEmail().equals(user.email())) {
+            // Entidad gestionada: el dirty checking emite el UPDATE al hacer commit
+            UserSecurityMapper.apply(existing, user, now);
+            return;
+        }
+        if (existing != null) {
+            // El email es la PK: un cambio de email reemplaza la fila
+            snapshotRepository.delete(existing);
+            snapshotRepository.flush();
+        }
+        snapshotRepository.save(UserSecurityMapper.toSnapshot(user, now));
+    }
+}
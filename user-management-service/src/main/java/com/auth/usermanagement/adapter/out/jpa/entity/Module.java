@@ -16,7 +16,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "modules")
+@Table(name = "modules", indexes = @Index(name = "idx_modules_created_at_module_id", columnList = "created_at, module_id"))
 public class Module extends Maintenance implements Serializable {
     @Id
     private UUID moduleId;
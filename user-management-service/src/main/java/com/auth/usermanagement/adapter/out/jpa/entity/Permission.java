@@ -14,7 +14,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "permissions")
+@Table(name = "permissions", indexes = @Index(name = "idx_permissions_created_at_permission_id", columnList = "created_at, permission_id"))
 public class Permission extends Maintenance implements Serializable {
 
     @Id
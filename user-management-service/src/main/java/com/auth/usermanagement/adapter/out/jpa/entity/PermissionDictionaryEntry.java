@@ -0,0 +1,33 @@
+package com.auth.usermanagement.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Índice estable de un nombre de permiso en el claim compacto del JWT.
+ *
+ * Solo se insertan filas: ni borrar ni renombrar un permiso mueve índices, así
+ * que cualquier diccionario posterior sigue decodificando tokens anteriores.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "permission_dictionary", uniqueConstraints = @UniqueConstraint(name = "uk_permission_dictionary_name", columnNames = "permission_name"))
+public class PermissionDictionaryEntry implements Serializable {
+
+    @Id
+    @Column(name = "bit_index")
+    private Integer bitIndex;
+
+    @Column(name = "permission_name", nullable = false)
+    private String permissionName;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+}
@@ -17,7 +17,7 @@ import com.common.shared.domain.model.Maintenance;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "roles")
+@Table(name = "roles", indexes = @Index(name = "idx_roles_created_at_role_id", columnList = "created_at, role_id"))
 public class Role extends Maintenance implements Serializable {
 
     @Id
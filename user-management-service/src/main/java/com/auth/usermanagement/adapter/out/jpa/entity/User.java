@@ -17,7 +17,7 @@ import com.common.shared.domain.model.Maintenance;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_created_at_user_id", columnList = "created_at, user_id"))
 public class User extends Maintenance implements Serializable {
     @Id
     private UUID userId;
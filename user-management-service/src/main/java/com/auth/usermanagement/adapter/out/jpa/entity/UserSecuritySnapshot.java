@@ -0,0 +1,54 @@
+package com.auth.usermanagement.adapter.out.jpa.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Modelo de lectura del login: roles y permisos ya aplanados por usuario.
+ *
+ * La clave primaria es el email, de modo que
+ * {@code /internal/users/search/findByUsername} es una única lectura por PK,
+ * independiente de cuántos roles y permisos tenga el usuario. Se mantiene desde
+ * los servicios de usuario, rol y permiso (ver UserSecuritySnapshotAdapter).
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "user_security_snapshot", uniqueConstraints = @UniqueConstraint(name = "uk_user_security_snapshot_user_id", columnNames = "user_id"))
+public class UserSecuritySnapshot implements Serializable {
+
+    @Id
+    private String email;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    private String password;
+
+    @Column(name = "is_enabled")
+    private boolean enabled;
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "role_names", columnDefinition = "text[]")
+    private List<String> roleNames = new ArrayList<>();
+
+    @Builder.Default
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "permission_names", columnDefinition = "text[]")
+    private List<String> permissionNames = new ArrayList<>();
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,94 @@
+package com.auth.usermanagement.adapter.out.jpa.mapper;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.UserSecuritySnapshot;
+import com.auth.usermanagement.adapter.out.jpa.projection.UserAuthRow;
+import com.common.shared.application.dto.UserSecurityResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+public class UserSecurityMapper {
+
+    /**
+     * Agrupa las filas planas (usuario x rol x permiso) en una respuesta por
+     * usuario. El JOIN repite roles y permisos; se deduplican conservando el
+     * orden.
+     */
+    public static List<UserSecurityResponse> fold(List<UserAuthRow> rows) {
+        Map<UUID, Accumulator> byUser = new LinkedHashMap<>();
+        for (UserAuthRow row : rows) {
+            Accumulator acc = byUser.computeIfAbsent(row.userId(), id -> new Accumulator(row));
+            if (row.roleName() != null) {
+                acc.roles.add(row.roleName());
+            }
+            if (row.permissionName() != null) {
+                acc.permissions.add(row.permissionName());
+            }
+        }
+        List<UserSecurityResponse> result = new ArrayList<>(byUser.size());
+        for (Accumulator acc : byUser.values()) {
+            result.add(new UserSecurityResponse(
+                    acc.head.userId().toString(),
+                    acc.head.email(),
+                    acc.head.password(),
+                    acc.head.enabled(),
+                    List.copyOf(acc.roles),
+                    List.copyOf(acc.permissions)));
+        }
+        return result;
+    }
+
+    public static UserSecurityResponse toResponse(UserSecuritySnapshot snapshot) {
+        return new UserSecurityResponse(
+                snapshot.getUserId().toString(),
+                snapshot.getEmail(),
+                snapshot.getPassword(),
+                snapshot.isEnabled(),
+                List.copyOf(snapshot.getRoleNames()),
+                List.copyOf(snapshot.getPermissionNames()));
+    }
+
+    public static UserSecuritySnapshot toSnapshot(UserSecurityResponse user, Instant now) {
+        UserSecuritySnapshot snapshot = new UserSecuritySnapshot();
+        snapshot.setEmail(user.email());
+        snapshot.setUserId(UUID.fromString(user.userId()));
+        apply(snapshot, user, now);
+        return snapshot;
+    }
+
+    /** {@code true} si la fila ya refleja al usuario; roles y permisos sin importar el orden. */
+    public static boolean matches(UserSecuritySnapshot snapshot, UserSecurityResponse user) {
+        return snapshot.getEmail().equals(user.email())
+                && Objects.equals(snapshot.getPassword(), user.password())
+                && snapshot.isEnabled() == user.enabled()
+                && new HashSet<>(snapshot.getRoleNames()).equals(new HashSet<>(user.roles()))
+                && new HashSet<>(snapshot.getPermissionNames()).equals(new HashSet<>(user.permissions()));
+    }
+
+    /** Copia los campos mutables sobre una fila existente (mismo email). */
+    public static void apply(UserSecuritySnapshot snapshot, UserSecurityResponse user, Instant now) {
+        snapshot.setPassword(user.password());
+        snapshot.setEnabled(user.enabled());
+        snapshot.setRoleNames(new ArrayList<>(user.roles()));
+        snapshot.setPermissionNames(new ArrayList<>(user.permissions()));
+        snapshot.setUpdatedAt(now);
+    }
+
+    private static final class Accumulator {
+        private final UserAuthRow head;
+        private final Set<String> roles = new LinkedHashSet<>();
+        private final Set<String> permissions = new LinkedHashSet<>();
+
+        private Accumulator(UserAuthRow head) {
+            this.head = head;
+        }
+    }
+}
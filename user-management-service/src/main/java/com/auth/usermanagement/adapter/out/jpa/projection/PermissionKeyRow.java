@@ -0,0 +1,6 @@
+package com.auth.usermanagement.adapter.out.jpa.projection;
+
+import java.util.UUID;
+
+public record PermissionKeyRow(UUID permissionId, String name) {
+}
@@ -0,0 +1,7 @@
+package com.auth.usermanagement.adapter.out.jpa.projection;
+
+import java.util.UUID;
+
+/** Una fila por (rol, permiso); {@code permissionId} es null si el rol no tiene permisos. */
+public record RoleGrantRow(UUID roleId, UUID permissionId) {
+}
@@ -0,0 +1,17 @@
+package com.auth.usermanagement.adapter.out.jpa.projection;
+
+import java.util.UUID;
+
+/**
+ * Fila plana de la consulta de login: una por cada par (rol, permiso) del
+ * usuario. {@code roleName} y {@code permissionName} son {@code null} cuando el
+ * usuario no tiene roles o el rol no tiene permisos (LEFT JOIN).
+ */
+public record UserAuthRow(
+        UUID userId,
+        String email,
+        String password,
+        boolean enabled,
+        String roleName,
+        String permissionName) {
+}
@@ -0,0 +1,7 @@
+package com.auth.usermanagement.adapter.out.jpa.projection;
+
+import java.util.UUID;
+
+/** Una fila por rol del usuario; {@code roleId} es null si no tiene roles. */
+public record UserGrantRow(UUID userId, boolean enabled, UUID roleId) {
+}
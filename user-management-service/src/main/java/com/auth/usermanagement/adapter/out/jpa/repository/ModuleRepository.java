@@ -1,14 +1,21 @@
 package com.auth.usermanagement.adapter.out.jpa.repository;
 
 import com.auth.usermanagement.adapter.out.jpa.entity.Module;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ModuleRepository extends JpaRepository<Module, UUID> {
@@ -21,4 +28,26 @@ public interface ModuleRepository extends JpaRepository<Module, UUID> {
             WHERE (:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%')))
             """)
     Page<Module> searchByName(String name, Pageable pageable);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Module m ORDER BY m.createdAt, m.moduleId")
+    Stream<Module> streamAll();
+
+    @Query("""
+            SELECT m FROM Module m
+            WHERE (:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            ORDER BY m.createdAt ASC, m.moduleId ASC
+            """)
+    List<Module> scrollFirstByName(String name, Limit limit);
+
+    @Query("""
+            SELECT m FROM Module m
+            WHERE (:name IS NULL OR LOWER(m.name) LIKE LOWER(CONCAT('%', :name, '%')))
+              AND (m.createdAt, m.moduleId) > (:afterCreatedAt, :afterId)
+            ORDER BY m.createdAt ASC, m.moduleId ASC
+            """)
+    List<Module> scrollByName(String name, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
 }
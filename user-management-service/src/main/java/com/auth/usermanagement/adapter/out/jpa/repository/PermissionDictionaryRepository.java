@@ -0,0 +1,24 @@
+package com.auth.usermanagement.adapter.out.jpa.repository;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.PermissionDictionaryEntry;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PermissionDictionaryRepository extends JpaRepository<PermissionDictionaryEntry, Integer> {
+  @Query("SELECT e.permissionName FROM PermissionDictionaryEntry e ORDER BY e.bitIndex")
+  List<String> findAllNamesOrderByBitIndex();
+
+  @Query("SELECT COALESCE(MAX(e.bitIndex), -1) FROM PermissionDictionaryEntry e")
+  int findMaxBitIndex();
+
+  // Serializa las altas entre instancias; las lecturas no se bloquean
+  @Modifying
+  @Query(value = "LOCK TABLE permission_dictionary IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+  void lockForAppend();
+}
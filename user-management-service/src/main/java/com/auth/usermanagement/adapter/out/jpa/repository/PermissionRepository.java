@@ -1,17 +1,24 @@
 package com.auth.usermanagement.adapter.out.jpa.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.auth.usermanagement.adapter.out.jpa.entity.Permission;
+import com.auth.usermanagement.adapter.out.jpa.projection.PermissionKeyRow;
 import com.common.shared.domain.model.Status;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, UUID> {
@@ -28,4 +35,33 @@ public interface PermissionRepository extends JpaRepository<Permission, UUID> {
     Page<Permission> searchByName(String name, Pageable pageable);
 
     Integer countByStatus(Status status);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Permission p ORDER BY p.createdAt, p.permissionId")
+    Stream<Permission> streamAll();
+
+    @Query("""
+            SELECT p FROM Permission p
+            WHERE (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            ORDER BY p.createdAt ASC, p.permissionId ASC
+            """)
+    List<Permission> scrollFirstByName(String name, Limit limit);
+
+    @Query("""
+            SELECT p FROM Permission p
+            WHERE (:name IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%')))
+              AND (p.createdAt, p.permissionId) > (:afterCreatedAt, :afterId)
+            ORDER BY p.createdAt ASC, p.permissionId ASC
+            """)
+    List<Permission> scrollByName(String name, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+
+    @Query("SELECT new com.auth.usermanagement.adapter.out.jpa.projection.PermissionKeyRow(p.permissionId, p.name) FROM Permission p")
+    List<PermissionKeyRow> findAllKeys();
+
+    // Solo los nombres: alimenta el diccionario de permisos del JWT compacto
+    @Query("SELECT p.name FROM Permission p")
+    List<String> findAllNames();
 }
@@ -1,17 +1,26 @@
 package com.auth.usermanagement.adapter.out.jpa.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.auth.usermanagement.adapter.out.jpa.entity.Role;
+import com.auth.usermanagement.adapter.out.jpa.projection.RoleGrantRow;
 import com.common.shared.domain.model.Status;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, UUID> {
@@ -20,6 +29,11 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
 
     Optional<Role> findByName(String roleName);
 
+    // SELECT ... FOR UPDATE: serializa los cambios que recalculan a los usuarios del rol
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Role r WHERE r.roleId = :roleId")
+    Optional<Role> findByIdForUpdate(UUID roleId);
+
     @Query("""
             SELECT r FROM Role r
             WHERE (:name IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :name, '%')))
@@ -27,4 +41,41 @@ public interface RoleRepository extends JpaRepository<Role, UUID> {
     Page<Role> searchByName(String name, Pageable pageable);
 
     Integer countByStatus(Status status);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Role r ORDER BY r.createdAt, r.roleId")
+    Stream<Role> streamAll();
+
+    @Query("""
+            SELECT r FROM Role r
+            WHERE (:name IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :name, '%')))
+            ORDER BY r.createdAt ASC, r.roleId ASC
+            """)
+    List<Role> scrollFirstByName(String name, Limit limit);
+
+    @Query("""
+            SELECT r FROM Role r
+            WHERE (:name IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :name, '%')))
+              AND (r.createdAt, r.roleId) > (:afterCreatedAt, :afterId)
+            ORDER BY r.createdAt ASC, r.roleId ASC
+            """)
+    List<Role> scrollByName(String name, LocalDateTime afterCreatedAt, UUID afterId, Limit limit);
+
+    @Query("""
+            SELECT new com.auth.usermanagement.adapter.out.jpa.projection.RoleGrantRow(r.roleId, p.permissionId)
+            FROM Role r
+            LEFT JOIN r.permissions p
+            """)
+    List<RoleGrantRow> findAllGrants();
+
+    @Query("""
+            SELECT new com.auth.usermanagement.adapter.out.jpa.projection.RoleGrantRow(r.roleId, p.permissionId)
+            FROM Role r
+            LEFT JOIN r.permissions p
+            WHERE r.roleId = :roleId
+            """)
+    List<RoleGrantRow> findGrantsByRoleId(UUID roleId);
 }
@@ -1,16 +1,26 @@
 package com.auth.usermanagement.adapter.out.jpa.repository;
 
 import com.auth.usermanagement.adapter.out.jpa.entity.User;
+import com.auth.usermanagement.adapter.out.jpa.projection.UserAuthRow;
+import com.auth.usermanagement.adapter.out.jpa.projection.UserGrantRow;
 import com.common.shared.domain.model.Status;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
@@ -18,6 +28,49 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
   Optional<User> findByEmail(String email);
 
+  // Login: usuario, roles y permisos en una sola consulta, sin cargar entidades
+  @Query("""
+      SELECT new com.auth.usermanagement.adapter.out.jpa.projection.UserAuthRow(
+          u.userId, u.email, u.password, u.isEnabled, r.name, p.name)
+      FROM User u
+      LEFT JOIN u.roles r
+      LEFT JOIN r.permissions p
+      WHERE u.email = :email
+      """)
+  List<UserAuthRow> findAuthRowsByEmail(String email);
+
+  @Query("""
+      SELECT new com.auth.usermanagement.adapter.out.jpa.projection.UserAuthRow(
+          u.userId, u.email, u.password, u.isEnabled, r.name, p.name)
+      FROM User u
+      LEFT JOIN u.roles r
+      LEFT JOIN r.permissions p
+      WHERE u.userId IN :userIds
+      """)
+  List<UserAuthRow> findAuthRowsByUserIds(Collection<UUID> userIds);
+
+  @Query("SELECT u.userId FROM User u ORDER BY u.userId")
+  List<UUID> findAllUserIds();
+
+  @Query("SELECT u.userId FROM User u JOIN u.roles r WHERE r.roleId = :roleId")
+  List<UUID> findUserIdsByRoleId(UUID roleId);
+
+  @Query("""
+      SELECT DISTINCT u.userId FROM User u
+      JOIN u.roles r
+      JOIN r.permissions p
+      WHERE p.permissionId = :permissionId
+      """)
+  List<UUID> findUserIdsByPermissionId(UUID permissionId);
+
+  @Query("""
+      SELECT new com.auth.usermanagement.adapter.out.jpa.projection.UserGrantRow(u.userId, u.isEnabled, r.roleId)
+      FROM User u
+      LEFT JOIN u.roles r
+      WHERE u.userId = :userId
+      """)
+  List<UserGrantRow> findGrantsByUserId(UUID userId);
+
   @Query("""
       SELECT u FROM User u
       WHERE (:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')))
@@ -29,4 +82,40 @@ public interface UserRepository extends JpaRepository<User, UUID> {
       Pageable pageable);
 
   Integer countByStatus(Status status);
+
+  @Query("SELECT u FROM User u ORDER BY u.createdAt, u.userId")
+  List<User> findFirstOrdered(Limit limit);
+
+  // Cursor de base de datos para exportaciones: lotes de 500 filas, de solo lectura
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("SELECT u FROM User u ORDER BY u.createdAt, u.userId")
+  Stream<User> streamAll();
+
+  @Query("""
+      SELECT u FROM User u
+      WHERE (:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')))
+        AND (:status IS NULL OR u.status = :status)
+      ORDER BY u.createdAt ASC, u.userId ASC
+      """)
+  List<User> scrollFirstByUsernameOrUserId(
+      String email,
+      Status status,
+      Limit limit);
+
+  @Query("""
+      SELECT u FROM User u
+      WHERE (:email IS NULL OR LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')))
+        AND (:status IS NULL OR u.status = :status)
+        AND (u.createdAt, u.userId) > (:afterCreatedAt, :afterId)
+      ORDER BY u.createdAt ASC, u.userId ASC
+      """)
+  List<User> scrollByUsernameOrUserId(
+      String email,
+      Status status,
+      LocalDateTime afterCreatedAt,
+      UUID afterId,
+      Limit limit);
 }
@@ -0,0 +1,30 @@
+package com.auth.usermanagement.adapter.out.jpa.repository;
+
+import com.auth.usermanagement.adapter.out.jpa.entity.UserSecuritySnapshot;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserSecuritySnapshotRepository extends JpaRepository<UserSecuritySnapshot, String> {
+  List<UserSecuritySnapshot> findAllByUserIdIn(Collection<UUID> userIds);
+
+  // La reconciliación bloquea las filas antes de leer las tablas normalizadas
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM UserSecuritySnapshot s WHERE s.userId IN :userIds")
+  List<UserSecuritySnapshot> lockAllByUserIdIn(Collection<UUID> userIds);
+
+  // Usuarios creados antes de existir la tabla (o con la fila perdida)
+  @Query("""
+      SELECT u.userId FROM User u
+      WHERE NOT EXISTS (SELECT 1 FROM UserSecuritySnapshot s WHERE s.userId = u.userId)
+      """)
+  List<UUID> findUserIdsWithoutSnapshot();
+}
@@ -0,0 +1,35 @@
+package com.auth.usermanagement.adapter.out.messaging;
+
+import com.auth.usermanagement.domain.port.out.UserChangeEventPort;
+import com.common.shared.application.dto.UserChangeEvent;
+import com.common.shared.infrastructure.messaging.MessagePublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publica los cambios de usuario por RabbitMQ (userChange-out-0). Dentro de una
+ * transacción se espera al commit: si el consumidor recargara antes, volvería
+ * a cachear el estado anterior.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeEventAdapter implements UserChangeEventPort {
+
+    private final MessagePublisher messagePublisher;
+
+    @Override
+    public void publish(UserChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    messagePublisher.sendUserChange(event);
+                }
+            });
+            return;
+        }
+        messagePublisher.sendUserChange(event);
+    }
+}
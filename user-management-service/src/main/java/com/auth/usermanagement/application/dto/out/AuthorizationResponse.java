@@ -0,0 +1,14 @@
+package com.auth.usermanagement.application.dto.out;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Decisión por permiso, en el orden de la consulta. Un usuario inexistente o
+ * deshabilitado no tiene ningún permiso.
+ */
+public record AuthorizationResponse(
+        UUID userId,
+        boolean allGranted,
+        Map<String, Boolean> decisions) {
+}
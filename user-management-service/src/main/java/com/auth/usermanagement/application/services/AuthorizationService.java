@@ -0,0 +1,330 @@
+package com.auth.usermanagement.application.services;
+
+import com.auth.usermanagement.adapter.in.web.request.AuthorizationRequest;
+import com.auth.usermanagement.application.dto.out.AuthorizationResponse;
+import com.auth.usermanagement.domain.model.authorization.PermissionRef;
+import com.auth.usermanagement.domain.model.authorization.RoleGrants;
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+import com.auth.usermanagement.domain.port.in.AuthorizeUseCase;
+import com.auth.usermanagement.domain.port.out.AuthorizationDataPort;
+import com.auth.usermanagement.domain.port.out.AuthorizationIndexPort;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Índice de autorización en memoria: responde "¿tiene el usuario X el permiso
+ * P?" sin ir a la base de datos en el caso común.
+ *
+ * - Cada permiso recibe un slot entero denso; los nuevos se añaden al final,
+ * así los bitsets existentes siguen siendo válidos.
+ * - Cada rol guarda un long[] con los slots de sus permisos.
+ * - Cada usuario cachea sus roles y el OR de sus bitsets, que solo se recalcula
+ * cuando cambia la versión del índice.
+ *
+ * Los cambios de RoleService/PermissionService/UserService se aplican de forma
+ * incremental tras el commit. Las demás instancias se enteran por el evento
+ * userChange (UserChangeConsumer); la reconstrucción completa cada
+ * {@code refresh-interval} solo cubre eventos perdidos.
+ */
+@Service
+@Slf4j
+public class AuthorizationService implements AuthorizeUseCase, AuthorizationIndexPort {
+
+    private static final long[] NO_PERMISSIONS = new long[0];
+
+    private final AuthorizationDataPort authorizationDataPort;
+    private final TransactionTemplate reloadTransaction;
+    private final long refreshIntervalNanos;
+    private final Cache<UUID, UserEntry> users;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Index index;
+
+    public AuthorizationService(
+            AuthorizationDataPort authorizationDataPort,
+            PlatformTransactionManager transactionManager,
+            @Value("${application.authorization-index.refresh-interval:5m}") Duration refreshInterval,
+            @Value("${application.authorization-index.user-cache-size:10000}") long userCacheSize) {
+        this.authorizationDataPort = authorizationDataPort;
+        // En afterCommit la transacción original sigue ligada al hilo: las recargas
+        // abren una propia para no leer del contexto de persistencia ya cerrado
+        this.reloadTransaction = new TransactionTemplate(transactionManager);
+        this.reloadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.reloadTransaction.setReadOnly(true);
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        // El TTL acota cuánto dura una entrada si se pierde el evento de otra instancia
+        this.users = Caffeine.newBuilder()
+                .maximumSize(userCacheSize)
+                .expireAfterWrite(refreshInterval)
+                .build();
+    }
+
+    @Override
+    public AuthorizationResponse authorize(AuthorizationRequest request) {
+        return decide(currentIndex(), request);
+    }
+
+    @Override
+    public List<AuthorizationResponse> authorizeAll(List<AuthorizationRequest> requests) {
+        // Todo el lote se responde contra la misma versión del índice
+        Index current = currentIndex();
+        List<AuthorizationResponse> responses = new ArrayList<>(requests.size());
+        for (AuthorizationRequest request : requests) {
+            responses.add(decide(current, request));
+        }
+        return responses;
+    }
+
+    @Override
+    public void roleChanged(RoleId id) {
+        afterCommit(() -> reload(current -> withRole(current, id)));
+    }
+
+    @Override
+    public void permissionChanged(PermissionId id) {
+        afterCommit(() -> reload(current -> withPermission(current, id)));
+    }
+
+    @Override
+    public void userChanged(UserId id) {
+        afterCommit(() -> users.invalidate(id.id()));
+    }
+
+    @Override
+    public void authorizationChanged() {
+        // Sin detalle del rol o permiso: la próxima consulta reconstruye el índice
+        update(current -> current.rebuiltAt(System.nanoTime() - refreshIntervalNanos - 1));
+    }
+
+    private AuthorizationResponse decide(Index current, AuthorizationRequest request) {
+        long[] bits = effectiveBits(current, request.userId());
+        Map<String, Boolean> decisions = new LinkedHashMap<>();
+        boolean allGranted = true;
+        for (String permission : request.permissions()) {
+            boolean granted = current.granted(bits, permission);
+            decisions.put(permission, granted);
+            allGranted &= granted;
+        }
+        return new AuthorizationResponse(request.userId(), allGranted, decisions);
+    }
+
+    private long[] effectiveBits(Index current, UUID userId) {
+        UserEntry entry = users.get(userId, this::loadUser);
+        if (entry.version() == current.version()) {
+            return entry.bits();
+        }
+        long[] bits = entry.enabled() ? current.union(entry.roleIds()) : NO_PERMISSIONS;
+        // replace y no put: si el usuario se invalidó entretanto no se resucita la entrada vieja
+        users.asMap().replace(userId, entry, new UserEntry(entry.enabled(), entry.roleIds(), current.version(), bits));
+        return bits;
+    }
+
+    private UserEntry loadUser(UUID userId) {
+        // Usuario inexistente: se cachea sin permisos (create lo invalida)
+        return authorizationDataPort.loadUserGrants(new UserId(userId))
+                .map(grants -> new UserEntry(grants.enabled(), grants.roleIds(), -1, NO_PERMISSIONS))
+                .orElseGet(() -> new UserEntry(false, Set.of(), -1, NO_PERMISSIONS));
+    }
+
+    private Index currentIndex() {
+        Index current = index;
+        if (current == null) {
+            lock.lock();
+            try {
+                if (index == null) {
+                    index = build(0);
+                }
+                return index;
+            } finally {
+                lock.unlock();
+            }
+        }
+        // Solo un hilo reconstruye; el resto sigue con la versión vigente
+        if (System.nanoTime() - current.builtAtNanos() > refreshIntervalNanos && lock.tryLock()) {
+            try {
+                if (index == current) {
+                    index = build(current.version() + 1);
+                }
+            } catch (RuntimeException e) {
+                log.warn("No se pudo reconstruir el índice de autorización: {}", e.getMessage());
+                index = current.rebuiltAt(System.nanoTime());
+            } finally {
+                lock.unlock();
+            }
+            return index;
+        }
+        return current;
+    }
+
+    private void update(UnaryOperator<Index> change) {
+        lock.lock();
+        try {
+            Index current = index;
+            if (current == null) {
+                // Aún no se ha construido: la primera consulta lo hará completo
+                return;
+            }
+            try {
+                index = change.apply(current);
+            } catch (RuntimeException e) {
+                // Mejor un índice viejo un instante que uno a medias: se fuerza la reconstrucción
+                log.warn("No se pudo actualizar el índice de autorización: {}", e.getMessage());
+                index = current.rebuiltAt(System.nanoTime() - refreshIntervalNanos - 1);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reload(UnaryOperator<Index> change) {
+        update(current -> reloadTransaction.execute(status -> change.apply(current)));
+    }
+
+    private Index build(long version) {
+        Map<UUID, Integer> slotByPermissionId = new HashMap<>();
+        Map<String, Integer> slotByName = new HashMap<>();
+        for (PermissionRef permission : authorizationDataPort.loadPermissions()) {
+            int slot = slotByPermissionId.size();
+            slotByPermissionId.put(permission.permissionId(), slot);
+            slotByName.put(permission.name(), slot);
+        }
+        Map<UUID, long[]> bitsByRole = new HashMap<>();
+        for (RoleGrants grants : authorizationDataPort.loadRoleGrants()) {
+            bitsByRole.put(grants.roleId(), bits(grants.permissionIds(), slotByPermissionId));
+        }
+        log.debug("Índice de autorización construido: {} permisos, {} roles (v{})",
+                slotByPermissionId.size(), bitsByRole.size(), version);
+        return new Index(Map.copyOf(slotByPermissionId), Map.copyOf(slotByName), Map.copyOf(bitsByRole),
+                version, System.nanoTime());
+    }
+
+    private Index withRole(Index current, RoleId id) {
+        Optional<RoleGrants> grants = authorizationDataPort.loadRoleGrants(id);
+        Map<UUID, long[]> bitsByRole = new HashMap<>(current.bitsByRole());
+        if (grants.isEmpty()) {
+            bitsByRole.remove(id.id());
+        } else {
+            Set<UUID> permissionIds = grants.get().permissionIds();
+            if (!current.slotByPermissionId().keySet().containsAll(permissionIds)) {
+                // Permiso creado en otra instancia: aún no tiene slot aquí
+                return build(current.version() + 1);
+            }
+            bitsByRole.put(id.id(), bits(permissionIds, current.slotByPermissionId()));
+        }
+        return new Index(current.slotByPermissionId(), current.slotByName(), Map.copyOf(bitsByRole),
+                current.version() + 1, current.builtAtNanos());
+    }
+
+    private Index withPermission(Index current, PermissionId id) {
+        Optional<PermissionRef> permission = authorizationDataPort.loadPermission(id);
+        if (permission.isEmpty()) {
+            return build(current.version() + 1);
+        }
+        Map<UUID, Integer> slotByPermissionId = new HashMap<>(current.slotByPermissionId());
+        Map<String, Integer> slotByName = new HashMap<>(current.slotByName());
+        Integer slot = slotByPermissionId.get(id.id());
+        if (slot == null) {
+            slot = slotByPermissionId.size();
+            slotByPermissionId.put(id.id(), slot);
+        } else {
+            // Renombrado: el slot se conserva, solo cambia el nombre que apunta a él
+            slotByName.values().removeIf(slot::equals);
+        }
+        slotByName.put(permission.get().name(), slot);
+        return new Index(Map.copyOf(slotByPermissionId), Map.copyOf(slotByName), current.bitsByRole(),
+                current.version() + 1, current.builtAtNanos());
+    }
+
+    private static long[] bits(Set<UUID> permissionIds, Map<UUID, Integer> slotByPermissionId) {
+        long[] bits = NO_PERMISSIONS;
+        for (UUID permissionId : permissionIds) {
+            Integer slot = slotByPermissionId.get(permissionId);
+            if (slot == null) {
+                continue;
+            }
+            int word = slot >>> 6;
+            if (word >= bits.length) {
+                bits = Arrays.copyOf(bits, word + 1);
+            }
+            bits[word] |= 1L << slot;
+        }
+        return bits;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    /** Estado inmutable del índice; cada cambio publica uno nuevo con otra versión. */
+    private record Index(
+            Map<UUID, Integer> slotByPermissionId,
+            Map<String, Integer> slotByName,
+            Map<UUID, long[]> bitsByRole,
+            long version,
+            long builtAtNanos) {
+
+        boolean granted(long[] bits, String permission) {
+            Integer slot = slotByName.get(permission);
+            if (slot == null) {
+                return false;
+            }
+            int word = slot >>> 6;
+            return word < bits.length && (bits[word] & (1L << slot)) != 0;
+        }
+
+        long[] union(Set<UUID> roleIds) {
+            long[] result = NO_PERMISSIONS;
+            for (UUID roleId : roleIds) {
+                long[] role = bitsByRole.get(roleId);
+                if (role == null) {
+                    continue;
+                }
+                if (role.length > result.length) {
+                    result = Arrays.copyOf(result, role.length);
+                }
+                for (int i = 0; i < role.length; i++) {
+                    result[i] |= role[i];
+                }
+            }
+            return result;
+        }
+
+        Index rebuiltAt(long nanos) {
+            return new Index(slotByPermissionId, slotByName, bitsByRole, version, nanos);
+        }
+    }
+
+    private record UserEntry(boolean enabled, Set<UUID> roleIds, long version, long[] bits) {
+    }
+}
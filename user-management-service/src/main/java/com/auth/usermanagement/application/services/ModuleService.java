@@ -9,7 +9,9 @@ import com.auth.usermanagement.domain.model.module.ModuleDomain;
 import com.auth.usermanagement.domain.model.module.vo.ModuleId;
 import com.auth.usermanagement.domain.port.in.ModuleUseCasePort;
 import com.auth.usermanagement.domain.port.out.ModuleRepositoryPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
+import com.common.shared.application.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +21,7 @@ import org.springframework.stereotype.Service;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -149,4 +152,16 @@ public class ModuleService implements ModuleUseCasePort {
                 pageResult.getTotalPages(),
                 pageResult.isLast());
     }
+
+    @Override
+    public CursorPaginatedResponse<ModuleResponse> scroll(String name, String cursor, int size) {
+        int pageSize = CursorPaginatedResponse.normalizeSize(size);
+        return moduleRepositoryPort.scrollByName(name, CursorCodec.decode(cursor), pageSize)
+                .map(ModuleMapper::toResponse);
+    }
+
+    @Override
+    public void exportAll(Consumer<ModuleResponse> sink) {
+        moduleRepositoryPort.streamAll(domain -> sink.accept(ModuleMapper.toResponse(domain)));
+    }
 }
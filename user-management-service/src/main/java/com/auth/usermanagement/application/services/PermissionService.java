@@ -9,18 +9,31 @@ import com.common.shared.domain.exception.PermissionNotFoundException;
 import com.auth.usermanagement.domain.model.permission.PermissionDomain;
 import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
 import com.auth.usermanagement.domain.model.permission.vo.PermissionName;
+import com.auth.usermanagement.domain.port.in.GetPermissionDictionaryUseCase;
 import com.auth.usermanagement.domain.port.in.PermissionUseCasePort;
+import com.auth.usermanagement.domain.port.out.AuthorizationIndexPort;
+import com.auth.usermanagement.domain.port.out.PermissionDictionaryPort;
 import com.auth.usermanagement.domain.port.out.PermissionRepositoryPort;
+import com.auth.usermanagement.domain.port.out.UserChangeEventPort;
+import com.auth.usermanagement.domain.port.out.UserSecuritySnapshotPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
+import com.common.shared.application.util.CursorCodec;
+import com.common.shared.application.dto.PermissionDictionaryResponse;
+import com.common.shared.application.dto.UserChangeEvent;
+import com.common.shared.security.service.PermissionDictionarySource;
+import com.common.shared.security.util.PermissionDictionary;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -30,14 +43,21 @@ import java.util.stream.Collectors;
  * - Orquestar creación/actualización de PermissionDomain via
  * PermissionRepositoryPort.
  * - Validar unicidad y exponer activate/deactivate y búsqueda paginada.
+ * - Publicar el diccionario de permisos del claim compacto del JWT.
  */
 @Service
 @RequiredArgsConstructor
-public class PermissionService implements PermissionUseCasePort {
+public class PermissionService implements PermissionUseCasePort, GetPermissionDictionaryUseCase,
+        PermissionDictionarySource {
 
     private final PermissionRepositoryPort permissionRepositoryPort;
+    private final UserChangeEventPort userChangeEventPort;
+    private final UserSecuritySnapshotPort userSecuritySnapshotPort;
+    private final AuthorizationIndexPort authorizationIndexPort;
+    private final PermissionDictionaryPort permissionDictionaryPort;
 
     @Override
+    @Transactional
     public PermissionResponse create(CreatePermissionRequest request) {
         PermissionDomain domain = PermissionMapper.toDomain(request);
         PermissionName name = domain.getName();
@@ -48,10 +68,13 @@ public class PermissionService implements PermissionUseCasePort {
             }
         }
         PermissionDomain saved = permissionRepositoryPort.save(domain);
+        registerInDictionary(saved);
+        authorizationIndexPort.permissionChanged(saved.getPermissionId());
         return PermissionMapper.toResponse(saved);
     }
 
     @Override
+    @Transactional
     public PermissionResponse update(UUID id, UpdatePermissionRequest request) {
         PermissionId pid = new PermissionId(id);
         PermissionDomain existing = permissionRepositoryPort.findById(pid)
@@ -60,6 +83,12 @@ public class PermissionService implements PermissionUseCasePort {
         PermissionMapper.applyUpdate(existing, request);
 
         PermissionDomain saved = permissionRepositoryPort.save(existing);
+        // Un nombre nuevo recibe índice propio; el anterior conserva el suyo
+        registerInDictionary(saved);
+        // Un cambio de nombre se refleja en los snapshots de quienes lo tienen
+        userSecuritySnapshotPort.refreshUsersWithPermission(pid);
+        authorizationIndexPort.permissionChanged(pid);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
         return PermissionMapper.toResponse(saved);
     }
 
@@ -70,6 +99,7 @@ public class PermissionService implements PermissionUseCasePort {
                 .orElseThrow(() -> new PermissionNotFoundException("Permiso no encontrado"));
 
         permissionRepositoryPort.updateEnabled(pid, false);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
     @Override
@@ -79,6 +109,7 @@ public class PermissionService implements PermissionUseCasePort {
                 .orElseThrow(() -> new PermissionNotFoundException("Permiso no encontrado"));
 
         permissionRepositoryPort.updateEnabled(pid, true);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
     @Override
@@ -110,4 +141,33 @@ public class PermissionService implements PermissionUseCasePort {
                 pageResult.getTotalPages(),
                 pageResult.isLast());
     }
+
+    @Override
+    public List<String> loadPermissionNames() {
+        return permissionDictionaryPort.loadNames();
+    }
+
+    @Override
+    public PermissionDictionaryResponse execute() {
+        PermissionDictionary dictionary = PermissionDictionary.of(loadPermissionNames());
+        return new PermissionDictionaryResponse(dictionary.version(), dictionary.names());
+    }
+
+    private void registerInDictionary(PermissionDomain permission) {
+        if (permission.getName() != null) {
+            permissionDictionaryPort.register(List.of(permission.getName().value()));
+        }
+    }
+
+    @Override
+    public CursorPaginatedResponse<PermissionResponse> scroll(String name, String cursor, int size) {
+        int pageSize = CursorPaginatedResponse.normalizeSize(size);
+        return permissionRepositoryPort.scrollByName(name, CursorCodec.decode(cursor), pageSize)
+                .map(PermissionMapper::toResponse);
+    }
+
+    @Override
+    public void exportAll(Consumer<PermissionResponse> sink) {
+        permissionRepositoryPort.streamAll(domain -> sink.accept(PermissionMapper.toResponse(domain)));
+    }
 }
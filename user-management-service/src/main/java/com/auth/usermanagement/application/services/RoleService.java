@@ -13,9 +13,15 @@ import com.auth.usermanagement.domain.model.role.RoleDomain;
 import com.auth.usermanagement.domain.model.role.vo.RoleId;
 import com.auth.usermanagement.domain.model.role.vo.RoleName;
 import com.auth.usermanagement.domain.port.in.RoleUseCasePort;
+import com.auth.usermanagement.domain.port.out.AuthorizationIndexPort;
 import com.auth.usermanagement.domain.port.out.PermissionRepositoryPort;
 import com.auth.usermanagement.domain.port.out.RoleRepositoryPort;
+import com.auth.usermanagement.domain.port.out.UserChangeEventPort;
+import com.auth.usermanagement.domain.port.out.UserSecuritySnapshotPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
+import com.common.shared.application.util.CursorCodec;
+import com.common.shared.application.dto.UserChangeEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -26,6 +32,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +50,10 @@ public class RoleService implements RoleUseCasePort {
 
     private final RoleRepositoryPort roleRepositoryPort;
     private final PermissionRepositoryPort permissionRepositoryPort;
+    // Cambios de rol afectan a todos sus usuarios: auth-service invalida su caché completa
+    private final UserChangeEventPort userChangeEventPort;
+    private final UserSecuritySnapshotPort userSecuritySnapshotPort;
+    private final AuthorizationIndexPort authorizationIndexPort;
 
     /**
      * Crear un nuevo rol.
@@ -69,14 +80,18 @@ public class RoleService implements RoleUseCasePort {
      * Actualizar rol existente (parcial).
      */
     @Override
+    @Transactional
     public RoleResponse update(UUID id, UpdateRoleRequest request) {
         RoleId rid = new RoleId(id);
-        RoleDomain existing = roleRepositoryPort.findById(rid)
+        RoleDomain existing = roleRepositoryPort.findByIdForUpdate(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
 
         RoleMapper.applyUpdate(existing, request);
 
         RoleDomain saved = roleRepositoryPort.save(existing);
+        // Un cambio de nombre se refleja en los snapshots de sus usuarios
+        userSecuritySnapshotPort.refreshUsersWithRole(rid);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
         return RoleMapper.toResponse(saved);
     }
 
@@ -89,6 +104,7 @@ public class RoleService implements RoleUseCasePort {
         roleRepositoryPort.findById(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
         roleRepositoryPort.updateEnabled(rid, false);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
     /**
@@ -100,6 +116,7 @@ public class RoleService implements RoleUseCasePort {
         roleRepositoryPort.findById(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
         roleRepositoryPort.updateEnabled(rid, true);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
     @Override
@@ -119,27 +136,34 @@ public class RoleService implements RoleUseCasePort {
         RoleId rid = new RoleId(roleId);
         PermissionId pid = new PermissionId(permissionId);
 
-        RoleDomain role = roleRepositoryPort.findById(rid)
+        RoleDomain role = roleRepositoryPort.findByIdForUpdate(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
         PermissionDomain permission = permissionRepositoryPort.findById(pid)
                 .orElseThrow(() -> new PermissionNotFoundException("Permiso no encontrado"));
 
         role.addPermission(permission);
         roleRepositoryPort.save(role);
+        userSecuritySnapshotPort.refreshUsersWithRole(rid);
+        authorizationIndexPort.roleChanged(rid);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
+    @Transactional
     @Override
     public void removePermission(UUID roleId, UUID permissionId) {
         RoleId rid = new RoleId(roleId);
         PermissionId pid = new PermissionId(permissionId);
 
-        RoleDomain role = roleRepositoryPort.findById(rid)
+        RoleDomain role = roleRepositoryPort.findByIdForUpdate(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
         PermissionDomain permission = permissionRepositoryPort.findById(pid)
                 .orElseThrow(() -> new PermissionNotFoundException("Permiso no encontrado"));
 
         role.removePermission(permission);
         roleRepositoryPort.save(role);
+        userSecuritySnapshotPort.refreshUsersWithRole(rid);
+        authorizationIndexPort.roleChanged(rid);
+        userChangeEventPort.publish(UserChangeEvent.authorizationChanged());
     }
 
     @Override
@@ -158,4 +182,16 @@ public class RoleService implements RoleUseCasePort {
                 pageResult.getTotalPages(),
                 pageResult.isLast());
     }
+
+    @Override
+    public CursorPaginatedResponse<RoleResponse> scroll(String name, String cursor, int size) {
+        int pageSize = CursorPaginatedResponse.normalizeSize(size);
+        return roleRepositoryPort.scrollByName(name, CursorCodec.decode(cursor), pageSize)
+                .map(RoleMapper::toResponse);
+    }
+
+    @Override
+    public void exportAll(Consumer<RoleResponse> sink) {
+        roleRepositoryPort.streamAll(domain -> sink.accept(RoleMapper.toResponse(domain)));
+    }
 }
@@ -14,10 +14,16 @@ import com.auth.usermanagement.domain.model.user.vo.UserId;
 import com.auth.usermanagement.domain.model.user.vo.UserPassword;
 import com.auth.usermanagement.domain.port.in.GetUserForAuthUseCase;
 import com.auth.usermanagement.domain.port.in.UserUseCasePort;
+import com.auth.usermanagement.domain.port.out.AuthorizationIndexPort;
 import com.auth.usermanagement.domain.port.out.RoleRepositoryPort;
+import com.auth.usermanagement.domain.port.out.UserChangeEventPort;
 import com.auth.usermanagement.domain.port.out.UserRepositoryPort;
+import com.auth.usermanagement.domain.port.out.UserSecuritySnapshotPort;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
+import com.common.shared.application.dto.UserChangeEvent;
 import com.common.shared.application.dto.UserSecurityResponse;
+import com.common.shared.application.util.CursorCodec;
 import com.common.shared.domain.model.Status;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -25,11 +31,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -53,6 +60,11 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
     private final UserRepositoryPort userRepositoryPort;
     private final RoleRepositoryPort roleRepositoryPort;
     private final PasswordEncoder passwordEncoder; // inyectado
+    // Avisa a auth-service para invalidar credenciales y sesiones cacheadas
+    private final UserChangeEventPort userChangeEventPort;
+    // Modelo de lectura del login; se actualiza en la misma transacción que el cambio
+    private final UserSecuritySnapshotPort userSecuritySnapshotPort;
+    private final AuthorizationIndexPort authorizationIndexPort;
 
     /**
      * Crear un nuevo usuario.
@@ -66,6 +78,7 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
      * @throws UserAlreadyExistsException si el email ya está en uso.
      */
     @Override
+    @Transactional
     public UserResponse create(CreateUserRequest request) {
         String emailNormalized = request.email() == null ? "" : request.email().trim().toLowerCase();
 
@@ -94,6 +107,9 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
             newUser.changePassword(new UserPassword(encoded));
         }
         UserDomain saved = userRepositoryPort.save(newUser);
+        userSecuritySnapshotPort.refreshUser(saved.getUserId());
+        // Pudo consultarse antes de existir y quedar cacheado sin permisos
+        authorizationIndexPort.userChanged(saved.getUserId());
         return UserMapper.toResponse(saved);
     }
 
@@ -111,10 +127,12 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
      *                                    usuario.
      */
     @Override
+    @Transactional
     public UserResponse update(UUID id, UpdateUserRequest request) {
         UserId uid = new UserId(id);
         UserDomain existing = userRepositoryPort.findById(uid)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
+        String previousEmail = existing.getEmail() == null ? null : existing.getEmail().value();
 
         // Validar email único si se intenta cambiar
         String newEmailStr = request.email();
@@ -146,6 +164,9 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
         }
 
         UserDomain saved = userRepositoryPort.save(existing);
+        userSecuritySnapshotPort.refreshUser(uid);
+        publishChange(request.password() != null ? UserChangeEvent.Type.CREDENTIALS_CHANGED
+                : UserChangeEvent.Type.UPDATED, saved, previousEmail);
         return UserMapper.toResponse(saved);
     }
 
@@ -158,6 +179,7 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
      * @throws UserNotFoundException si no existe el usuario.
      */
     @Override
+    @Transactional
     public void deactivate(UUID id) {
         UserId uid = new UserId(id);
         UserDomain existing = userRepositoryPort.findById(uid)
@@ -178,6 +200,9 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
         }
 
         userRepositoryPort.save(existing);
+        userSecuritySnapshotPort.refreshUser(uid);
+        authorizationIndexPort.userChanged(uid);
+        publishChange(UserChangeEvent.Type.DEACTIVATED, existing, null);
     }
 
     /**
@@ -187,6 +212,7 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
      * @throws UserNotFoundException si no existe el usuario.
      */
     @Override
+    @Transactional
     public void activate(UUID id) {
         UserId uid = new UserId(id);
         UserDomain existing = userRepositoryPort.findById(uid)
@@ -206,6 +232,9 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
         }
 
         userRepositoryPort.save(existing);
+        userSecuritySnapshotPort.refreshUser(uid);
+        authorizationIndexPort.userChanged(uid);
+        publishChange(UserChangeEvent.Type.ACTIVATED, existing, null);
     }
 
     /**
@@ -218,11 +247,12 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
     }
 
     /**
-     * Listar todos los usuarios (sin paginar).
+     * Listar los primeros {@code limit} usuarios (sin paginar); el listado
+     * completo se obtiene con exportAll.
      */
     @Override
-    public List<UserResponse> findAll() {
-        return userRepositoryPort.findAll().stream().map(UserMapper::toResponse).collect(Collectors.toList());
+    public List<UserResponse> findAll(int limit) {
+        return userRepositoryPort.findAll(limit).stream().map(UserMapper::toResponse).collect(Collectors.toList());
     }
 
     /**
@@ -231,36 +261,46 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
      * @throws UserNotFoundException | RoleNotFoundException según corresponda.
      */
     @Override
+    @Transactional
     public void assignRole(UUID userId, UUID roleId) {
         UserId uid = new UserId(userId);
         RoleId rid = new RoleId(roleId);
 
         UserDomain user = userRepositoryPort.findById(uid)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
-        RoleDomain role = roleRepositoryPort.findById(rid)
+        // Bloquea el rol: un cambio concurrente de sus permisos espera a este commit
+        RoleDomain role = roleRepositoryPort.findByIdForUpdate(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
 
         // delegar regla de negocio al dominio (lanzará RoleAlreadyAssignedException si
         // ya existe)
         user.addRole(role);
         userRepositoryPort.save(user);
+        userSecuritySnapshotPort.refreshUser(uid);
+        authorizationIndexPort.userChanged(uid);
+        publishChange(UserChangeEvent.Type.ROLES_CHANGED, user, null);
     }
 
     /**
      * Revocar rol de usuario.
      */
     @Override
+    @Transactional
     public void revokeRole(UUID userId, UUID roleId) {
         UserId uid = new UserId(userId);
         RoleId rid = new RoleId(roleId);
 
         UserDomain user = userRepositoryPort.findById(uid)
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
-        RoleDomain role = roleRepositoryPort.findById(rid)
+        // Bloquea el rol: un cambio concurrente de sus permisos espera a este commit
+        RoleDomain role = roleRepositoryPort.findByIdForUpdate(rid)
                 .orElseThrow(() -> new RoleNotFoundException("Rol no encontrado"));
 
         user.removeRole(role);
         userRepositoryPort.save(user);
+        userSecuritySnapshotPort.refreshUser(uid);
+        authorizationIndexPort.userChanged(uid);
+        publishChange(UserChangeEvent.Type.ROLES_CHANGED, user, null);
     }
 
     /**
@@ -296,30 +336,37 @@ public class UserService implements UserUseCasePort, GetUserForAuthUseCase {
                 domainPage.isLast());
     }
 
+    @Override
+    public CursorPaginatedResponse<UserResponse> scroll(String email, Status status, String cursor, int size) {
+        int pageSize = CursorPaginatedResponse.normalizeSize(size);
+        return userRepositoryPort.scrollByUsernameOrUserId(email, status, CursorCodec.decode(cursor), pageSize)
+                .map(UserMapper::toResponse);
+    }
+
+    /**
+     * Exporta todos los usuarios fila a fila desde el cursor de streamAll; a
+     * diferencia de findAll no construye la lista completa.
+     */
+    @Override
+    public void exportAll(Consumer<UserResponse> sink) {
+        userRepositoryPort.streamAll(domain -> sink.accept(UserMapper.toResponse(domain)));
+    }
+
     @Override
     public UserSecurityResponse execute(String email) {
+        // Ruta de login: lectura por PK del snapshot; si falta la fila (aún no
+        // reconstruida) se usa la proyección de una consulta
         UserEmail userEmail = new UserEmail(email);
-        return userRepositoryPort.findByEmail(userEmail)
-                .map(u -> {
-                    List<String> roles = new ArrayList<>();
-                    List<String> permissions = new ArrayList<>();
-
-                    roles = u.getRoles().stream().map(
-                            role -> role.getName().value()).collect(Collectors.toList());
-                    permissions = u.getRoles().stream().map(
-                            role -> role.getPermissions().stream().map(
-                                    permission -> permission.getName().value())
-                                    .collect(Collectors.toList()))
-                            .flatMap(List::stream).collect(Collectors.toList());
-
-                    return new UserSecurityResponse(
-                            u.getUserId().id().toString(),
-                            u.getEmail().value(),
-                            u.getPassword().value(),
-                            u.getStatus().isEnabled(),
-                            roles,
-                            permissions);
-                })
+        return userSecuritySnapshotPort.findByEmail(userEmail)
+                .or(() -> userRepositoryPort.findSecurityByEmail(userEmail))
                 .orElseThrow(() -> new UserNotFoundException("Usuario no encontrado"));
     }
+
+    private void publishChange(UserChangeEvent.Type type, UserDomain user, String previousEmail) {
+        userChangeEventPort.publish(UserChangeEvent.forUser(
+                type,
+                user.getUserId().id().toString(),
+                user.getEmail() == null ? null : user.getEmail().value(),
+                previousEmail));
+    }
 }
@@ -0,0 +1,31 @@
+package com.auth.usermanagement.config;
+
+import com.auth.usermanagement.domain.port.out.PermissionDictionaryPort;
+import com.auth.usermanagement.domain.port.out.PermissionRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra en permission_dictionary los permisos creados antes de la tabla.
+ * Hasta entonces los tokens de esos permisos llevan la lista completa.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PermissionDictionaryInitializer {
+
+    private final PermissionRepositoryPort permissionRepositoryPort;
+    private final PermissionDictionaryPort permissionDictionaryPort;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerExistingPermissions() {
+        try {
+            permissionDictionaryPort.register(permissionRepositoryPort.findAllNames());
+        } catch (Exception e) {
+            log.warn("No se pudo completar el diccionario de permisos: {}", e.getMessage());
+        }
+    }
+}
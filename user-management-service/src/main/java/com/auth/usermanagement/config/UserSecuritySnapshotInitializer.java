@@ -0,0 +1,75 @@
+package com.auth.usermanagement.config;
+
+import com.auth.usermanagement.domain.port.out.UserSecuritySnapshotPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Completa user_security_snapshot al arrancar. Mientras tanto el login no falla:
+ * ante una fila ausente se usa la proyección sobre las tablas normalizadas.
+ *
+ * Después reconcilia todas las filas cada
+ * {@code application.security-snapshot.reconcile-interval} y corrige las que
+ * hayan quedado desactualizadas.
+ */
+@Component
+@Slf4j
+public class UserSecuritySnapshotInitializer {
+
+    private final UserSecuritySnapshotPort userSecuritySnapshotPort;
+    private final Duration reconcileInterval;
+    private ScheduledExecutorService scheduler;
+
+    public UserSecuritySnapshotInitializer(UserSecuritySnapshotPort userSecuritySnapshotPort,
+            @Value("${application.security-snapshot.reconcile-interval:30m}") Duration reconcileInterval) {
+        this.userSecuritySnapshotPort = userSecuritySnapshotPort;
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildMissingSnapshots() {
+        try {
+            int rebuilt = userSecuritySnapshotPort.rebuildMissing();
+            if (rebuilt > 0) {
+                log.info("Snapshots de seguridad reconstruidos: {}", rebuilt);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron reconstruir los snapshots de seguridad: {}", e.getMessage());
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "security-snapshot-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMs = reconcileInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::reconcile, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopReconciler() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void reconcile() {
+        try {
+            int fixed = userSecuritySnapshotPort.reconcileAll();
+            if (fixed > 0) {
+                log.warn("Snapshots de seguridad desactualizados corregidos: {}", fixed);
+            }
+        } catch (Exception e) {
+            log.warn("No se pudieron reconciliar los snapshots de seguridad: {}", e.getMessage());
+        }
+    }
+}
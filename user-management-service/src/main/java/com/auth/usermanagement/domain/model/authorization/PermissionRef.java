@@ -0,0 +1,7 @@
+package com.auth.usermanagement.domain.model.authorization;
+
+import java.util.UUID;
+
+/** Permiso tal como lo necesita el índice de autorización: id y nombre. */
+public record PermissionRef(UUID permissionId, String name) {
+}
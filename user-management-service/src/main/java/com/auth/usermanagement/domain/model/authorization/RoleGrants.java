@@ -0,0 +1,8 @@
+package com.auth.usermanagement.domain.model.authorization;
+
+import java.util.Set;
+import java.util.UUID;
+
+/** Permisos asignados a un rol (ids, estables ante renombres). */
+public record RoleGrants(UUID roleId, Set<UUID> permissionIds) {
+}
@@ -0,0 +1,8 @@
+package com.auth.usermanagement.domain.model.authorization;
+
+import java.util.Set;
+import java.util.UUID;
+
+/** Estado y roles de un usuario para resolver sus permisos efectivos. */
+public record UserGrants(UUID userId, boolean enabled, Set<UUID> roleIds) {
+}
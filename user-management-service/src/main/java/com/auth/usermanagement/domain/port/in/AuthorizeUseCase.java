@@ -0,0 +1,12 @@
+package com.auth.usermanagement.domain.port.in;
+
+import com.auth.usermanagement.adapter.in.web.request.AuthorizationRequest;
+import com.auth.usermanagement.application.dto.out.AuthorizationResponse;
+
+import java.util.List;
+
+public interface AuthorizeUseCase {
+    AuthorizationResponse authorize(AuthorizationRequest request);
+
+    List<AuthorizationResponse> authorizeAll(List<AuthorizationRequest> requests);
+}
@@ -0,0 +1,7 @@
+package com.auth.usermanagement.domain.port.in;
+
+import com.common.shared.application.dto.PermissionDictionaryResponse;
+
+public interface GetPermissionDictionaryUseCase {
+    PermissionDictionaryResponse execute();
+}
@@ -3,10 +3,12 @@ package com.auth.usermanagement.domain.port.in;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.auth.usermanagement.adapter.in.web.request.CreateModuleRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdateModuleRequest;
 import com.auth.usermanagement.application.dto.out.ModuleResponse;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 
 public interface ModuleUseCasePort {
@@ -23,4 +25,8 @@ public interface ModuleUseCasePort {
     List<ModuleResponse> findAll();
 
     PaginatedResponse<ModuleResponse> search(String name, int page, int size);
+
+    CursorPaginatedResponse<ModuleResponse> scroll(String name, String cursor, int size);
+
+    void exportAll(Consumer<ModuleResponse> sink);
 }
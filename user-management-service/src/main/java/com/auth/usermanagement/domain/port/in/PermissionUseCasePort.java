@@ -3,10 +3,12 @@ package com.auth.usermanagement.domain.port.in;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.auth.usermanagement.adapter.in.web.request.CreatePermissionRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdatePermissionRequest;
 import com.auth.usermanagement.application.dto.out.PermissionResponse;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 
 public interface PermissionUseCasePort {
@@ -23,4 +25,8 @@ public interface PermissionUseCasePort {
     List<PermissionResponse> findAll();
 
     PaginatedResponse<PermissionResponse> search(String name, int page, int size);
+
+    CursorPaginatedResponse<PermissionResponse> scroll(String name, String cursor, int size);
+
+    void exportAll(Consumer<PermissionResponse> sink);
 }
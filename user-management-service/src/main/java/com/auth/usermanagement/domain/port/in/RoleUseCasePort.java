@@ -3,10 +3,12 @@ package com.auth.usermanagement.domain.port.in;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import com.auth.usermanagement.adapter.in.web.request.CreateRoleRequest;
 import com.auth.usermanagement.adapter.in.web.request.UpdateRoleRequest;
 import com.auth.usermanagement.application.dto.out.RoleResponse;
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 
 public interface RoleUseCasePort {
@@ -27,4 +29,8 @@ public interface RoleUseCasePort {
     void removePermission(UUID roleId, UUID permissionId);
 
     PaginatedResponse<RoleResponse> search(String name, int page, int size);
+
+    CursorPaginatedResponse<RoleResponse> scroll(String name, String cursor, int size);
+
+    void exportAll(Consumer<RoleResponse> sink);
 }
@@ -1,5 +1,6 @@
 package com.auth.usermanagement.domain.port.in;
 
+import com.common.shared.application.dto.CursorPaginatedResponse;
 import com.common.shared.application.dto.PaginatedResponse;
 import com.common.shared.domain.model.Status;
 import com.auth.usermanagement.adapter.in.web.request.CreateUserRequest;
@@ -9,6 +10,7 @@ import com.auth.usermanagement.application.dto.out.UserResponse;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface UserUseCasePort {
     UserResponse create(CreateUserRequest request);
@@ -21,11 +23,15 @@ public interface UserUseCasePort {
 
     Optional<UserResponse> findById(UUID id);
 
-    List<UserResponse> findAll();
+    List<UserResponse> findAll(int limit);
 
     void assignRole(UUID userId, UUID roleId);
 
     void revokeRole(UUID userId, UUID roleId);
 
     PaginatedResponse<UserResponse> search(String email, Status status, int page, int size);
+
+    CursorPaginatedResponse<UserResponse> scroll(String email, Status status, String cursor, int size);
+
+    void exportAll(Consumer<UserResponse> sink);
 }
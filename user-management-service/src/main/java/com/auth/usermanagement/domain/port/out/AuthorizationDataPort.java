@@ -0,0 +1,27 @@
+package com.auth.usermanagement.domain.port.out;
+
+import com.auth.usermanagement.domain.model.authorization.PermissionRef;
+import com.auth.usermanagement.domain.model.authorization.RoleGrants;
+import com.auth.usermanagement.domain.model.authorization.UserGrants;
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Lecturas planas (sin mapear agregados) con las que se construye y actualiza
+ * el índice de autorización en memoria.
+ */
+public interface AuthorizationDataPort {
+    List<PermissionRef> loadPermissions();
+
+    Optional<PermissionRef> loadPermission(PermissionId id);
+
+    List<RoleGrants> loadRoleGrants();
+
+    Optional<RoleGrants> loadRoleGrants(RoleId id);
+
+    Optional<UserGrants> loadUserGrants(UserId id);
+}
@@ -0,0 +1,20 @@
+package com.auth.usermanagement.domain.port.out;
+
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+
+/**
+ * Avisos de cambio para el índice de autorización en memoria. Dentro de una
+ * transacción se aplican tras el commit, para no indexar cambios revertidos.
+ */
+public interface AuthorizationIndexPort {
+    void roleChanged(RoleId id);
+
+    void permissionChanged(PermissionId id);
+
+    void userChanged(UserId id);
+
+    /** Cambio de roles o permisos hecho en otra instancia: fuerza reconstruir el índice. */
+    void authorizationChanged();
+}
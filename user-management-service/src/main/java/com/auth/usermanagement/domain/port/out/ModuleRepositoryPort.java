@@ -5,9 +5,12 @@ import org.springframework.data.domain.Pageable;
 
 import com.auth.usermanagement.domain.model.module.ModuleDomain;
 import com.auth.usermanagement.domain.model.module.vo.ModuleId;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ModuleRepositoryPort {
     ModuleDomain save(ModuleDomain module);
@@ -21,4 +24,9 @@ public interface ModuleRepositoryPort {
     void updateEnabled(ModuleId id, boolean enabled);
 
     Page<ModuleDomain> searchByName(String name, Pageable pageable);
+
+    /** Página por cursor (createdAt, id) ascendente; {@code after} null = primera página. */
+    CursorPaginatedResponse<ModuleDomain> scrollByName(String name, CursorPosition after, int size);
+
+    void streamAll(Consumer<ModuleDomain> consumer);
 }
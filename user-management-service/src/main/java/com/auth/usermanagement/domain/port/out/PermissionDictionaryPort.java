@@ -0,0 +1,15 @@
+package com.auth.usermanagement.domain.port.out;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Diccionario append-only nombre de permiso → índice del claim compacto.
+ */
+public interface PermissionDictionaryPort {
+    /** Nombres ordenados por índice: la posición de cada uno es su bit. */
+    List<String> loadNames();
+
+    /** Asigna índice a los nombres que aún no lo tienen; los existentes no cambian. */
+    void register(Collection<String> names);
+}
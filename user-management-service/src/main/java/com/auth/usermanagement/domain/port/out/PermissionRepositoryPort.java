@@ -6,9 +6,12 @@ import org.springframework.data.domain.Pageable;
 import com.auth.usermanagement.domain.model.permission.PermissionDomain;
 import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
 import com.auth.usermanagement.domain.model.permission.vo.PermissionName;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface PermissionRepositoryPort {
     PermissionDomain save(PermissionDomain permission);
@@ -19,9 +22,16 @@ public interface PermissionRepositoryPort {
 
     List<PermissionDomain> findAll();
 
+    List<String> findAllNames();
+
     void deleteById(PermissionId id);
 
     void updateEnabled(PermissionId id, boolean enabled);
 
     Page<PermissionDomain> searchByName(String name, Pageable pageable);
+
+    /** Página por cursor (createdAt, id) ascendente; {@code after} null = primera página. */
+    CursorPaginatedResponse<PermissionDomain> scrollByName(String name, CursorPosition after, int size);
+
+    void streamAll(Consumer<PermissionDomain> consumer);
 }
@@ -3,17 +3,27 @@ package com.auth.usermanagement.domain.port.out;
 import com.auth.usermanagement.domain.model.role.RoleDomain;
 import com.auth.usermanagement.domain.model.role.vo.RoleId;
 import com.auth.usermanagement.domain.model.role.vo.RoleName;
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface RoleRepositoryPort {
     RoleDomain save(RoleDomain domain);
 
     Optional<RoleDomain> findById(RoleId id);
 
+    /**
+     * Como findById pero bloqueando la fila del rol hasta el fin de la
+     * transacción. Lo usan asignar/revocar roles y cambiar permisos de un rol
+     * para que sus recálculos de user_security_snapshot no se crucen.
+     */
+    Optional<RoleDomain> findByIdForUpdate(RoleId id);
+
     Optional<RoleDomain> findByName(RoleName name);
 
     List<RoleDomain> findAll();
@@ -25,4 +35,9 @@ public interface RoleRepositoryPort {
     void updateEnabled(RoleId id, boolean enabled);
 
     Page<RoleDomain> searchByName(String name, Pageable pageable);
+
+    /** Página por cursor (createdAt, id) ascendente; {@code after} null = primera página. */
+    CursorPaginatedResponse<RoleDomain> scrollByName(String name, CursorPosition after, int size);
+
+    void streamAll(Consumer<RoleDomain> consumer);
 }
@@ -0,0 +1,7 @@
+package com.auth.usermanagement.domain.port.out;
+
+import com.common.shared.application.dto.UserChangeEvent;
+
+public interface UserChangeEventPort {
+    void publish(UserChangeEvent event);
+}
@@ -1,5 +1,8 @@
 package com.auth.usermanagement.domain.port.out;
 
+import com.common.shared.application.dto.CursorPaginatedResponse;
+import com.common.shared.application.dto.CursorPosition;
+import com.common.shared.application.dto.UserSecurityResponse;
 import com.common.shared.domain.model.Status;
 import com.auth.usermanagement.domain.model.user.UserDomain;
 import com.auth.usermanagement.domain.model.user.vo.UserEmail;
@@ -7,6 +10,7 @@ import com.auth.usermanagement.domain.model.user.vo.UserId;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,11 +22,28 @@ public interface UserRepositoryPort {
 
     Optional<UserDomain> findByEmail(UserEmail email);
 
-    List<UserDomain> findAll();
+    /**
+     * Lectura dedicada al login: credenciales, roles y permisos en una sola
+     * consulta, sin reconstruir el agregado de dominio.
+     */
+    Optional<UserSecurityResponse> findSecurityByEmail(UserEmail email);
+
+    /** Primeros {@code limit} usuarios por (createdAt, id); el listado completo va por streamAll. */
+    List<UserDomain> findAll(int limit);
 
     boolean existsById(UserId id);
 
     void updateEnabled(UserId id, boolean enabled);
 
     Page<UserDomain> searchByUsernameOrUserId(String email, Status status, Pageable pageable);
+
+    /** Página por cursor (createdAt, id) ascendente; {@code after} null = primera página. */
+    CursorPaginatedResponse<UserDomain> scrollByUsernameOrUserId(String email, Status status, CursorPosition after,
+            int size);
+
+    /**
+     * Recorre todos los registros con un cursor de base de datos, entregándolos
+     * uno a uno sin acumularlos en memoria. Debe consumirse de forma síncrona.
+     */
+    void streamAll(Consumer<UserDomain> consumer);
 }
@@ -0,0 +1,40 @@
+package com.auth.usermanagement.domain.port.out;
+
+import com.auth.usermanagement.domain.model.permission.vo.PermissionId;
+import com.auth.usermanagement.domain.model.role.vo.RoleId;
+import com.auth.usermanagement.domain.model.user.vo.UserEmail;
+import com.auth.usermanagement.domain.model.user.vo.UserId;
+import com.common.shared.application.dto.UserSecurityResponse;
+
+import java.util.Optional;
+
+/**
+ * Modelo de lectura desnormalizado para el login (user_security_snapshot).
+ *
+ * Los métodos refresh* recalculan las filas afectadas a partir de las tablas
+ * normalizadas y deben llamarse dentro de la transacción que aplica el cambio.
+ */
+public interface UserSecuritySnapshotPort {
+    Optional<UserSecurityResponse> findByEmail(UserEmail email);
+
+    void refreshUser(UserId id);
+
+    void refreshUsersWithRole(RoleId id);
+
+    void refreshUsersWithPermission(PermissionId id);
+
+    /**
+     * Genera las filas que faltan (p.ej. usuarios anteriores a la tabla).
+     *
+     * @return número de usuarios reconstruidos
+     */
+    int rebuildMissing();
+
+    /**
+     * Recalcula todas las filas y corrige las que difieren de las tablas
+     * normalizadas (p.ej. un cambio concurrente que quedó sin reflejar).
+     *
+     * @return número de filas corregidas
+     */
+    int reconcileAll();
+}